@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.benchmarks;
+
+import de.muspellheim.signalslot.CounterListenerLearningTest;
+import de.muspellheim.signalslot.CounterObserverLearningTest;
+import de.muspellheim.signalslot.CounterSignalSlotTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the counter of signal and slot with the counters of observer and listener pattern.
+ * <p>Each counter is connected to <code>fanOut</code> other counters. Setting a new value notifies all of them.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CounterBenchmark {
+
+    @Param({"0", "1", "10", "100", "1000", "10000"})
+    private int fanOut;
+
+    private int value;
+
+    private CounterSignalSlotTest.Counter signalSlotCounter;
+    private CounterSignalSlotTest.Counter signalSlotTarget;
+
+    private CounterObserverLearningTest.Counter observerCounter;
+    private CounterObserverLearningTest.Counter observerTarget;
+
+    private CounterListenerLearningTest.Counter listenerCounter;
+    private CounterListenerLearningTest.Counter listenerTarget;
+
+    @Setup
+    public final void setUp() {
+        signalSlotCounter = new CounterSignalSlotTest.Counter();
+        observerCounter = new CounterObserverLearningTest.Counter();
+        listenerCounter = new CounterListenerLearningTest.Counter();
+        for (int i = 0; i < fanOut; i++) {
+            signalSlotCounter.valueChanged().connect(new CounterSignalSlotTest.Counter().setValue());
+            observerCounter.addObserver(new CounterObserverLearningTest.Counter());
+            listenerCounter.addValueListener(new CounterListenerLearningTest.Counter());
+        }
+        signalSlotTarget = new CounterSignalSlotTest.Counter();
+        observerTarget = new CounterObserverLearningTest.Counter();
+        listenerTarget = new CounterListenerLearningTest.Counter();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void signalSlotSetValue() {
+        signalSlotCounter.setValue(++value);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public final void signalSlotSetValueConcurrent(final ThreadValue threadValue) {
+        signalSlotCounter.setValue(threadValue.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void signalSlotConnectDisconnect() {
+        signalSlotCounter.valueChanged().connect(signalSlotTarget.setValue());
+        signalSlotCounter.valueChanged().disconnect(signalSlotTarget.setValue());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void observerSetValue() {
+        observerCounter.setValue(++value);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public final void observerSetValueConcurrent(final ThreadValue threadValue) {
+        observerCounter.setValue(threadValue.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void observerAddDelete() {
+        observerCounter.addObserver(observerTarget);
+        observerCounter.deleteObserver(observerTarget);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void listenerSetValue() {
+        listenerCounter.setValue(++value);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public final void listenerSetValueConcurrent(final ThreadValue threadValue) {
+        listenerCounter.setValue(threadValue.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void listenerAddRemove() {
+        listenerCounter.addValueListener(listenerTarget);
+        listenerCounter.removeValueListener(listenerTarget);
+    }
+
+    /**
+     * The next value of a benchmark thread, so the concurrent threads do not race on a shared value.
+     */
+    @State(Scope.Thread)
+    public static class ThreadValue {
+
+        private int value;
+
+        final int next() {
+            return ++value;
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.benchmarks;
+
+import de.muspellheim.signalslot.Connection;
+import de.muspellheim.signalslot.RingBufferSignal1;
+import de.muspellheim.signalslot.WaitStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of a ring buffer signal with slots consuming on their own threads.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RingBufferSignalBenchmark {
+
+    private static final int CAPACITY = 65536;
+
+    @Param({"1", "2", "4"})
+    private int consumers;
+
+    @Param({"BUSY_SPIN", "YIELDING", "SLEEPING"})
+    private WaitStrategy waitStrategy;
+
+    private final Integer value = Integer.MAX_VALUE;
+    private final List<Connection> connections = new ArrayList<>();
+
+    private RingBufferSignal1<Integer> signal;
+
+    @Setup
+    public final void setUp() {
+        signal = new RingBufferSignal1<>(CAPACITY, waitStrategy, Thread::new);
+        for (int i = 0; i < consumers; i++) {
+            connections.add(signal.connect(new Receiver()::receive));
+        }
+    }
+
+    @TearDown
+    public final void tearDown() {
+        connections.forEach(Connection::disconnect);
+        connections.clear();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void emit() {
+        signal.emit(value);
+    }
+
+    /**
+     * Sums the received values.
+     */
+    private static final class Receiver {
+
+        private int sum;
+
+        void receive(final Integer value) {
+            sum += value;
+        }
+
+    }
+
+}
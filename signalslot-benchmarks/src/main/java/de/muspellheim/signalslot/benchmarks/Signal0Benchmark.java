@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.benchmarks;
+
+import de.muspellheim.signalslot.Signal0;
+import de.muspellheim.signalslot.Slot0;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures emit, connect and disconnect of a signal without an argument.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Signal0Benchmark {
+
+    @Param({"0", "1", "10", "100", "1000", "10000"})
+    private int fanOut;
+
+    private Signal0 signal;
+    private Slot0 slot;
+
+    @Setup
+    public final void setUp() {
+        signal = new Signal0();
+        for (int i = 0; i < fanOut; i++) {
+            signal.connect(new Receiver()::receive);
+        }
+        slot = new Receiver()::receive;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void emit() {
+        signal.emit();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public final void emitConcurrent() {
+        signal.emit();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void connectDisconnect() {
+        signal.connect(slot);
+        signal.disconnect(slot);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void connectDisconnectConnection() {
+        signal.connect(slot).disconnect();
+    }
+
+    /**
+     * Counts the received events.
+     */
+    private static final class Receiver {
+
+        private int count;
+
+        void receive() {
+            count++;
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.benchmarks;
+
+import de.muspellheim.signalslot.ReceiverStore;
+import de.muspellheim.signalslot.Signal1;
+import de.muspellheim.signalslot.Slot1;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures emit, connect and disconnect of a signal with an argument, with each receiver store.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Signal1Benchmark {
+
+    @Param({"0", "1", "10", "100", "1000", "10000"})
+    private int fanOut;
+
+    @Param({"COPY_ON_WRITE", "CHUNKED"})
+    private ReceiverStore store;
+
+    private final Integer value = Integer.MAX_VALUE;
+
+    private Signal1<Integer> signal;
+    private Slot1<Integer> slot;
+
+    @Setup
+    public final void setUp() {
+        signal = new Signal1<>();
+        signal.setReceiverStore(store);
+        for (int i = 0; i < fanOut; i++) {
+            signal.connect(new Receiver()::receive);
+        }
+        slot = new Receiver()::receive;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void emit() {
+        signal.emit(value);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public final void emitConcurrent() {
+        signal.emit(value);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void connectDisconnect() {
+        signal.connect(slot);
+        signal.disconnect(slot);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public final void connectDisconnectConnection() {
+        signal.connect(slot).disconnect();
+    }
+
+    /**
+     * Sums the received values.
+     */
+    private static final class Receiver {
+
+        private int sum;
+
+        void receive(final Integer value) {
+            sum += value;
+        }
+
+    }
+
+}
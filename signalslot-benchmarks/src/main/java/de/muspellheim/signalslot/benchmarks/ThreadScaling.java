@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.benchmarks;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the concurrent emit benchmarks with 1, 2, 4, ... up to N threads and prints the throughput for each thread
+ * count.
+ * <p>Takes the usual JMH options and measures throughput unless <code>-bm</code> is given. <code>-t</code> sets N,
+ * which defaults to the number of available processors. Without a benchmark pattern all benchmarks ending with
+ * <code>Concurrent</code> are run.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class ThreadScaling {
+
+    private static final String DEFAULT_INCLUDE = ".*Concurrent$";
+
+    private ThreadScaling() {
+        // main class
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        final CommandLineOptions commandLine = parse(args);
+        final int maxThreads = commandLine.getThreads().orElse(Runtime.getRuntime().availableProcessors());
+        final List<String> summary = new ArrayList<>();
+        for (int threads : threadCounts(maxThreads)) {
+            final ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine).threads(threads);
+            if (commandLine.getIncludes().isEmpty()) {
+                options.include(DEFAULT_INCLUDE);
+            }
+            if (commandLine.getBenchModes().isEmpty()) {
+                options.mode(Mode.Throughput).timeUnit(TimeUnit.MICROSECONDS);
+            }
+            summarize(threads, new Runner(options.build()).run(), summary);
+        }
+        summary.forEach(System.out::println);
+    }
+
+    private static CommandLineOptions parse(final String[] args) {
+        try {
+            return new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    static List<Integer> threadCounts(final int maxThreads) {
+        final List<Integer> result = new ArrayList<>();
+        for (int threads = 1; threads < maxThreads; threads *= 2) {
+            result.add(threads);
+        }
+        result.add(maxThreads);
+        return result;
+    }
+
+    private static void summarize(final int threads, final Collection<RunResult> results, final List<String> summary) {
+        for (RunResult e : results) {
+            final StringBuilder line = new StringBuilder();
+            line.append(String.format("%3d threads  %s", threads, e.getParams().getBenchmark()));
+            for (String key : e.getParams().getParamsKeys()) {
+                line.append(' ').append(key).append('=').append(e.getParams().getParam(key));
+            }
+            line.append(String.format("  %.3f %s", e.getPrimaryResult().getScore(),
+                    e.getPrimaryResult().getScoreUnit()));
+            summary.add(line.toString());
+        }
+    }
+
+}
@@ -0,0 +1,10 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * JMH benchmarks for Signal and Slot for Java.
+ * <p>The observer and listener pattern from the learning tests are measured with the same scenarios as baseline.</p>
+ */
+package de.muspellheim.signalslot.benchmarks;
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import de.muspellheim.signalslot.WaitStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The ring buffer and the receiving thread shared by all signals passing values through a memory mapped file.
+ * <p>The receiving thread reads each value with {@link #read(ByteBuffer)} into the signal and calls
+ * {@link #deliver()} only after the ring buffer confirmed the record was not overwritten meanwhile.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+abstract class AbstractSharedMemorySignal implements AutoCloseable {
+
+    private static final long CLOSE_TIMEOUT = 1000;
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final SharedMemoryRing ring;
+    private final WaitStrategy waitStrategy;
+    private final RecordReader reader = this::read;
+    private Thread receiver;
+    private volatile boolean open = true;
+
+    /**
+     * Opens the ring buffer in the given file, creates the file if needed.
+     *
+     * @param file         the file shared by all processes
+     * @param capacity     the number of values a receiver can lag behind, rounded up to the next power of two
+     * @param recordSize   the maximal size of an encoded value in bytes
+     * @param waitStrategy the strategy of the receiving thread waiting for values
+     * @throws IOException              if the file can not be opened or mapped
+     * @throws IllegalArgumentException if the file was opened with another capacity or record size
+     */
+    AbstractSharedMemorySignal(final Path file, final int capacity, final int recordSize,
+                               final WaitStrategy waitStrategy) throws IOException {
+        Objects.requireNonNull(file, "file");
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (recordSize <= 0) {
+            throw new IllegalArgumentException("recordSize must be positive: " + recordSize);
+        }
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        ring = new SharedMemoryRing(file, size, recordSize);
+    }
+
+    public final int getCapacity() {
+        return ring.getCapacity();
+    }
+
+    public final int getRecordSize() {
+        return ring.getRecordSize();
+    }
+
+    /**
+     * Returns the number of values this signal lost, because emitters overwrote them before it received them or they
+     * could not be read.
+     */
+    public final long getLostCount() {
+        return ring.getLost();
+    }
+
+    /**
+     * Stops the receiving thread and closes the file.
+     */
+    @Override
+    public final void close() throws IOException {
+        open = false;
+        final Thread thread = receiverThread();
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(CLOSE_TIMEOUT);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        ring.close();
+    }
+
+    /**
+     * Returns the ring buffer to publish to.
+     *
+     * @throws IllegalStateException if the signal is closed
+     */
+    final SharedMemoryRing openRing() {
+        if (!open) {
+            throw new IllegalStateException("signal is closed");
+        }
+
+        return ring;
+    }
+
+    /**
+     * Starts the receiving thread, if not started yet.
+     */
+    final synchronized void startReceiver() {
+        if (receiver == null && open) {
+            receiver = new Thread(this::receiveAll, "signalslot-sharedmemory-" + THREAD_NUMBER.incrementAndGet());
+            receiver.setDaemon(true);
+            receiver.start();
+        }
+    }
+
+    /**
+     * Reads a record into the signal, called on the receiving thread.
+     *
+     * @param source the buffer positioned at the record, limited to the written bytes
+     * @throws RuntimeException if the record can not be read
+     */
+    abstract void read(ByteBuffer source);
+
+    /**
+     * Emits the value read last to the connected slots, called on the receiving thread.
+     */
+    abstract void deliver();
+
+    private synchronized Thread receiverThread() {
+        return receiver;
+    }
+
+    private void receiveAll() {
+        int retries = 0;
+        while (open) {
+            if (ring.poll(reader)) {
+                retries = 0;
+                deliverSafely();
+            } else {
+                waitStrategy.idle(retries++);
+            }
+        }
+    }
+
+    private void deliverSafely() {
+        try {
+            deliver();
+        } catch (RuntimeException e) {
+            // any slot may fail, the thread still receives the next values
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+}
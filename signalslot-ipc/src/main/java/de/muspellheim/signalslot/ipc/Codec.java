@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Writes values into and reads values from the shared memory.
+ * <p>A codec works directly on the mapped memory, there is no intermediate copy. The buffer is positioned at the
+ * record and limited to the record, use the relative get and put methods. Flat records, e.g. a few primitive fields,
+ * are written field by field:</p>
+ * <pre>
+ * Codec&lt;Tick&gt; ticks = Codec.of((t, b) -&gt; b.putLong(t.getTime()).putDouble(t.getPrice()),
+ *         b -&gt; new Tick(b.getLong(), b.getDouble()));
+ * </pre>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface Codec<T> {
+
+    /**
+     * Writes a value.
+     *
+     * @param value  the value to write
+     * @param target the buffer positioned at the record, limited to the maximal record size
+     * @throws java.nio.BufferOverflowException if the value does not fit into a record
+     */
+    void encode(T value, ByteBuffer target);
+
+    /**
+     * Reads a value.
+     *
+     * @param source the buffer positioned at the record, limited to the written bytes
+     * @return the value
+     */
+    T decode(ByteBuffer source);
+
+    /**
+     * Creates a codec from an encoder and a decoder function.
+     */
+    static <T> Codec<T> of(final BiConsumer<? super T, ByteBuffer> encoder, final Function<ByteBuffer, T> decoder) {
+        return new FunctionCodec<>(encoder, decoder);
+    }
+
+    static Codec<Integer> ints() {
+        return of((v, b) -> b.putInt(v), ByteBuffer::getInt);
+    }
+
+    static Codec<Long> longs() {
+        return of((v, b) -> b.putLong(v), ByteBuffer::getLong);
+    }
+
+    static Codec<Double> doubles() {
+        return of((v, b) -> b.putDouble(v), ByteBuffer::getDouble);
+    }
+
+    /**
+     * Returns a codec for strings encoded as UTF-8, the string fills the record.
+     */
+    static Codec<String> strings() {
+        return of((v, b) -> b.put(v.getBytes(StandardCharsets.UTF_8)), FunctionCodec::decodeString);
+    }
+
+}
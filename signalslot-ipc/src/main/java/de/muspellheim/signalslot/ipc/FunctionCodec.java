@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * A codec delegating to functions.
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class FunctionCodec<T> implements Codec<T> {
+
+    private final BiConsumer<? super T, ByteBuffer> encoder;
+    private final Function<ByteBuffer, T> decoder;
+
+    FunctionCodec(final BiConsumer<? super T, ByteBuffer> encoder, final Function<ByteBuffer, T> decoder) {
+        this.encoder = encoder;
+        this.decoder = decoder;
+    }
+
+    @Override
+    public void encode(final T value, final ByteBuffer target) {
+        encoder.accept(value, target);
+    }
+
+    @Override
+    public T decode(final ByteBuffer source) {
+        return decoder.apply(source);
+    }
+
+    /**
+     * Reads the remaining bytes of the buffer as UTF-8 string.
+     */
+    static String decodeString(final ByteBuffer source) {
+        final byte[] bytes = new byte[source.remaining()];
+        source.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads a record of the ring buffer and keeps the value until the ring buffer confirmed the record was not overwritten
+ * meanwhile.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@FunctionalInterface
+interface RecordReader {
+
+    /**
+     * Reads a record.
+     *
+     * @param source the buffer positioned at the record, limited to the written bytes
+     * @throws RuntimeException if the record can not be read, e.g. because it was torn
+     */
+    void read(ByteBuffer source);
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import de.muspellheim.signalslot.Connection;
+import de.muspellheim.signalslot.IntSignal;
+import de.muspellheim.signalslot.IntSlot;
+import de.muspellheim.signalslot.WaitStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+/**
+ * A shared memory signal for <code>int</code> values.
+ * <p>Use this signal instead of <code>SharedMemorySignal1&lt;Integer&gt;</code> to avoid boxing. The records have the
+ * fixed size of 4 bytes, the same as {@link Codec#ints()} with record size 4, so both signals can share a file.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see SharedMemorySignal1
+ */
+public class SharedMemoryIntSignal extends AbstractSharedMemorySignal implements IntSlot {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+
+    private final IntSignal received = new IntSignal();
+    private int lastRead;
+
+    public SharedMemoryIntSignal(final Path file) throws IOException {
+        this(file, DEFAULT_CAPACITY, WaitStrategy.SLEEPING);
+    }
+
+    /**
+     * Opens a signal on the given file, creates the file if needed.
+     *
+     * @param file         the file shared by all processes
+     * @param capacity     the number of values a receiver can lag behind, rounded up to the next power of two
+     * @param waitStrategy the strategy of the receiving thread waiting for values
+     * @throws IOException              if the file can not be opened or mapped
+     * @throws IllegalArgumentException if the file was opened with another capacity or record size
+     */
+    public SharedMemoryIntSignal(final Path file, final int capacity,
+                                 final WaitStrategy waitStrategy) throws IOException {
+        super(file, capacity, Integer.BYTES, waitStrategy);
+    }
+
+    /**
+     * Connects a slot and starts the receiving thread with the first slot.
+     *
+     * @param slot the slot to connect
+     * @return the connection
+     */
+    public final Connection connect(final IntSlot slot) {
+        final Connection connection = received.connect(slot);
+        startReceiver();
+        return connection;
+    }
+
+    public final void disconnect(final IntSlot slot) {
+        received.disconnect(slot);
+    }
+
+    /**
+     * Emits a value to all processes.
+     *
+     * @param value the value to emit
+     * @throws IllegalStateException if the signal is closed
+     */
+    public final void emit(final int value) {
+        openRing().publishInt(value);
+    }
+
+    @Override
+    public final void receive(final int value) {
+        emit(value);
+    }
+
+    @Override
+    final void read(final ByteBuffer source) {
+        lastRead = source.getInt();
+    }
+
+    @Override
+    final void deliver() {
+        received.emit(lastRead);
+    }
+
+}
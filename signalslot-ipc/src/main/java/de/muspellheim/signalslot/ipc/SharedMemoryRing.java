@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A multi producer, multi consumer broadcast ring buffer in a memory mapped file.
+ * <p>The file starts with a header of 128 bytes: magic number, capacity and record size, and on its own cache line
+ * the next sequence to write. The slots follow, each with a marker of 8 bytes, the length of the record as 4 bytes
+ * and the record.</p>
+ * <p>A producer claims a sequence by incrementing the next sequence, marks the slot as being written, writes the
+ * record and publishes it by setting the marker to the sequence plus one. Producers never wait for consumers. Each
+ * consumer keeps its own cursor and reads a slot like a sequence lock: marker, record, marker again. If the marker
+ * changed meanwhile or a producer lapped the consumer, the consumer skips to the oldest slot still valid and counts
+ * the skipped values as lost. A reader never sees more bytes than the length of the record, which is bounded by the
+ * record size, so a torn length can not make it read into the next slot. A reader failing on a record is not trusted
+ * either, the marker decides: if the marker changed, the record was torn and the consumer skips as above, otherwise
+ * the record itself can not be read and is counted as lost.</p>
+ * <p>A producer dying between claim and commit leaves its slot marked as being written. A consumer does not wait for
+ * it forever: once more than half the capacity was claimed after the slot, the consumer skips the slot and counts it
+ * as lost. A producer taking that long to write its record loses the value the same way.</p>
+ * <p>Only {@link #poll(RecordReader)} is confined to one thread, the publish methods are thread safe.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SharedMemoryRing implements Closeable {
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class,
+            ByteOrder.nativeOrder());
+    private static final VarHandle INTS = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    private static final int MAGIC = 0x5349474E;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int CAPACITY_OFFSET = 4;
+    private static final int RECORD_SIZE_OFFSET = 8;
+    private static final int HEAD_OFFSET = 64;
+    private static final int SLOTS_OFFSET = 128;
+    private static final int LENGTH_OFFSET = 8;
+    private static final int RECORD_OFFSET = 16;
+    private static final int ALIGNMENT = 8;
+    private static final long WRITING = -1;
+    private static final int SKIPPED = -1;
+    private static final int READ = 0;
+    private static final int EMPTY = 1;
+    private static final int FAILED = 2;
+    private static final int NONE = 3;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int recordSize;
+    private final int slotSize;
+    private final ThreadLocal<ByteBuffer> writeView;
+    private final ByteBuffer readView;
+    private long cursor;
+    private volatile long lost;
+
+    /**
+     * Opens the ring buffer in the file, creates and initializes the file if needed.
+     *
+     * @param file       the file shared by all processes
+     * @param capacity   the number of slots, a power of two
+     * @param recordSize the maximal size of a record in bytes
+     * @throws IOException              if the file can not be mapped
+     * @throws IllegalArgumentException if the file contains a ring buffer with another capacity or record size
+     */
+    SharedMemoryRing(final Path file, final int capacity, final int recordSize) throws IOException {
+        this.capacity = capacity;
+        this.recordSize = recordSize;
+        mask = capacity - 1;
+        slotSize = (RECORD_OFFSET + recordSize + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        boolean opened = false;
+        try (FileLock lock = channel.lock()) {
+            checkHeader();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, SLOTS_OFFSET + (long) capacity * slotSize);
+            if ((int) INTS.getAcquire(buffer, MAGIC_OFFSET) != MAGIC) {
+                buffer.order(ByteOrder.nativeOrder());
+                buffer.putInt(CAPACITY_OFFSET, capacity);
+                buffer.putInt(RECORD_SIZE_OFFSET, recordSize);
+                INTS.setRelease(buffer, MAGIC_OFFSET, MAGIC);
+            }
+            opened = true;
+        } finally {
+            if (!opened) {
+                channel.close();
+            }
+        }
+        buffer.order(ByteOrder.nativeOrder());
+        writeView = ThreadLocal.withInitial(this::newView);
+        readView = newView();
+        cursor = (long) LONGS.getAcquire(buffer, HEAD_OFFSET);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    int getRecordSize() {
+        return recordSize;
+    }
+
+    long getLost() {
+        return lost;
+    }
+
+    /**
+     * Writes a value into the next slot.
+     *
+     * @throws IllegalArgumentException if the value does not fit into a record, the slot is published as skipped
+     */
+    <T> void publish(final Codec<T> codec, final T value) {
+        final long sequence = claim();
+        final int slot = slotOffset(sequence);
+        final ByteBuffer target = writeView.get();
+        target.clear().limit(slot + RECORD_OFFSET + recordSize).position(slot + RECORD_OFFSET);
+        int length = SKIPPED;
+        try {
+            codec.encode(value, target);
+            length = target.position() - slot - RECORD_OFFSET;
+        } catch (BufferOverflowException e) {
+            throw new IllegalArgumentException("value does not fit into record size " + recordSize + ": " + value, e);
+        } finally {
+            commit(sequence, length);
+        }
+    }
+
+    /**
+     * Writes an <code>int</code> into the next slot, like {@link Codec#ints()} without boxing. The record size must be
+     * at least 4 bytes.
+     */
+    void publishInt(final int value) {
+        final long sequence = claim();
+        buffer.putInt(slotOffset(sequence) + RECORD_OFFSET, value);
+        commit(sequence, Integer.BYTES);
+    }
+
+    /**
+     * Writes a <code>long</code> into the next slot, like {@link Codec#longs()} without boxing. The record size must
+     * be at least 8 bytes.
+     */
+    void publishLong(final long value) {
+        final long sequence = claim();
+        buffer.putLong(slotOffset(sequence) + RECORD_OFFSET, value);
+        commit(sequence, Long.BYTES);
+    }
+
+    /**
+     * Reads the next value into the reader.
+     *
+     * @return <code>true</code> if the reader read a value, <code>false</code> if no value is available yet
+     */
+    boolean poll(final RecordReader reader) {
+        int state = EMPTY;
+        while (state == EMPTY) {
+            final int slot = slotOffset(cursor);
+            final long marker = (long) LONGS.getAcquire(buffer, slot);
+            if (marker == cursor + 1) {
+                state = read(reader, slot);
+                VarHandle.acquireFence();
+                state = (long) LONGS.getAcquire(buffer, slot) == marker ? consume(state) : skipLapped();
+            } else {
+                state = skipStalled(marker);
+            }
+        }
+        return state == READ;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void checkHeader() throws IOException {
+        if (channel.size() < SLOTS_OFFSET) {
+            return;
+        }
+
+        final ByteBuffer header = ByteBuffer.allocate(RECORD_SIZE_OFFSET + Integer.BYTES)
+                .order(ByteOrder.nativeOrder());
+        channel.read(header, 0);
+        final int magic = header.getInt(MAGIC_OFFSET);
+        if (magic != MAGIC && magic != 0) {
+            throw new IOException("not a shared memory signal file");
+        }
+        if (magic == MAGIC && (header.getInt(CAPACITY_OFFSET) != capacity
+                || header.getInt(RECORD_SIZE_OFFSET) != recordSize)) {
+            throw new IllegalArgumentException("file has capacity " + header.getInt(CAPACITY_OFFSET)
+                    + " and record size " + header.getInt(RECORD_SIZE_OFFSET) + ", expected " + capacity + " and "
+                    + recordSize);
+        }
+    }
+
+    private ByteBuffer newView() {
+        return buffer.duplicate().order(ByteOrder.nativeOrder());
+    }
+
+    private int slotOffset(final long sequence) {
+        return SLOTS_OFFSET + ((int) sequence & mask) * slotSize;
+    }
+
+    /**
+     * Marks the slot of the next sequence as being written.
+     *
+     * @return the claimed sequence
+     */
+    long claim() {
+        final long sequence = (long) LONGS.getAndAdd(buffer, HEAD_OFFSET, 1L);
+        LONGS.setOpaque(buffer, slotOffset(sequence), WRITING);
+        VarHandle.releaseFence();
+        return sequence;
+    }
+
+    /**
+     * Publishes the record of the claimed sequence.
+     */
+    private void commit(final long sequence, final int length) {
+        final int slot = slotOffset(sequence);
+        buffer.putInt(slot + LENGTH_OFFSET, length);
+        LONGS.setRelease(buffer, slot, sequence + 1);
+    }
+
+    /**
+     * Reads the record of the slot, the reader sees the written bytes only.
+     *
+     * @return {@link #READ}, {@link #EMPTY} for a skipped record or {@link #FAILED} if the reader threw
+     */
+    private int read(final RecordReader reader, final int slot) {
+        readView.clear();
+        final int length = readView.getInt(slot + LENGTH_OFFSET);
+        int state = EMPTY;
+        if (length >= 0 && length <= recordSize) {
+            readView.limit(slot + RECORD_OFFSET + length).position(slot + RECORD_OFFSET);
+            try {
+                reader.read(readView);
+                state = READ;
+            } catch (RuntimeException e) {
+                // torn or invalid record, the marker check afterwards tells which one
+                state = FAILED;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Moves on after a record was read with an unchanged marker, so the read state is trusted.
+     *
+     * @return the state of the read record, {@link #EMPTY} if the next slot should be read
+     */
+    private int consume(final int state) {
+        cursor++;
+        if (state == FAILED) {
+            lost++;
+        }
+        return state == READ ? READ : EMPTY;
+    }
+
+    /**
+     * Skips the slot at the cursor if it was overwritten or abandoned by its writer.
+     *
+     * @return {@link #EMPTY} if skipped, {@link #NONE} if the slot is not written yet
+     */
+    private int skipStalled(final long marker) {
+        final long behind = (long) LONGS.getAcquire(buffer, HEAD_OFFSET) - cursor;
+        int state = NONE;
+        if (marker > cursor + 1 || behind > capacity) {
+            state = skipLapped();
+        } else if (behind > capacity / 2) {
+            // half the ring was claimed after the slot and its writer still did not commit, so it probably died
+            cursor++;
+            lost++;
+            state = EMPTY;
+        }
+        return state;
+    }
+
+    /**
+     * Skips to the oldest slot still valid.
+     *
+     * @return {@link #EMPTY}, to read the slot skipped to
+     */
+    private int skipLapped() {
+        final long oldest = (long) LONGS.getAcquire(buffer, HEAD_OFFSET) - capacity + 1;
+        final long skipTo = Math.max(cursor + 1, oldest);
+        lost += skipTo - cursor;
+        cursor = skipTo;
+        return EMPTY;
+    }
+
+}
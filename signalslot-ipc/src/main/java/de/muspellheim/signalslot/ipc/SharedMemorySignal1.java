@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import de.muspellheim.signalslot.Connection;
+import de.muspellheim.signalslot.Signal1;
+import de.muspellheim.signalslot.Slot1;
+import de.muspellheim.signalslot.WaitStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A signal passing its values through a memory mapped file to the slots connected in all processes on the same host,
+ * which opened the same file.
+ * <p>All processes share a ring buffer in the file. Emitting writes the value with the codec directly into the ring
+ * buffer and never waits for a receiver. Every opened signal receives the values emitted after it was opened, in any
+ * process including its own, and calls its connected slots on its own daemon thread. A receiver lagging behind by
+ * more than the capacity loses the overwritten values, see {@link #getLostCount()}.</p>
+ * <p>All processes must open the file with the same capacity, record size and codec. For primitive values use
+ * {@link SharedMemoryIntSignal}, {@link SharedMemoryLongSignal} or {@link SharedMemoryDoubleSignal}, they do not box
+ * the values.</p>
+ * <pre>
+ * try (SharedMemorySignal1&lt;Integer&gt; signal = new SharedMemorySignal1&lt;&gt;(file, Codec.ints())) {
+ *     signal.connect(v -&gt; System.out.println(v));
+ *     signal.emit(42);
+ * }
+ * </pre>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class SharedMemorySignal1<T> extends AbstractSharedMemorySignal implements Slot1<T> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final int DEFAULT_RECORD_SIZE = 256;
+
+    private final Codec<T> codec;
+    private final Signal1<T> received = new Signal1<>();
+    private T lastRead;
+
+    public SharedMemorySignal1(final Path file, final Codec<T> codec) throws IOException {
+        this(file, codec, DEFAULT_CAPACITY, DEFAULT_RECORD_SIZE, WaitStrategy.SLEEPING);
+    }
+
+    /**
+     * Opens a signal on the given file, creates the file if needed.
+     *
+     * @param file         the file shared by all processes
+     * @param codec        writes and reads the values
+     * @param capacity     the number of values a receiver can lag behind, rounded up to the next power of two
+     * @param recordSize   the maximal size of an encoded value in bytes
+     * @param waitStrategy the strategy of the receiving thread waiting for values
+     * @throws IOException              if the file can not be opened or mapped
+     * @throws IllegalArgumentException if the file was opened with another capacity or record size
+     */
+    public SharedMemorySignal1(final Path file, final Codec<T> codec, final int capacity, final int recordSize,
+                               final WaitStrategy waitStrategy) throws IOException {
+        super(file, capacity, recordSize, waitStrategy);
+        this.codec = Objects.requireNonNull(codec, "codec");
+    }
+
+    /**
+     * Connects a slot and starts the receiving thread with the first slot.
+     *
+     * @param slot the slot to connect
+     * @return the connection
+     */
+    public final Connection connect(final Slot1<T> slot) {
+        final Connection connection = received.connect(slot);
+        startReceiver();
+        return connection;
+    }
+
+    public final void disconnect(final Slot1<T> slot) {
+        received.disconnect(slot);
+    }
+
+    /**
+     * Emits a value to all processes.
+     *
+     * @param value the value to emit
+     * @throws IllegalArgumentException if the encoded value is larger than the record size
+     * @throws IllegalStateException    if the signal is closed
+     */
+    public final void emit(final T value) {
+        Objects.requireNonNull(value, "value");
+        openRing().publish(codec, value);
+    }
+
+    @Override
+    public final void receive(final T value) {
+        emit(value);
+    }
+
+    @Override
+    final void read(final ByteBuffer source) {
+        lastRead = codec.decode(source);
+    }
+
+    @Override
+    final void deliver() {
+        final T current = lastRead;
+        lastRead = null;
+        if (current != null) {
+            received.emit(current);
+        }
+    }
+
+}
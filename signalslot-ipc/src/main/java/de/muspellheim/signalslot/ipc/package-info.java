@@ -0,0 +1,14 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * Signals across processes on the same host.
+ * <p>A {@link de.muspellheim.signalslot.ipc.SharedMemorySignal1} passes its values through a ring buffer in a memory
+ * mapped file to all processes which opened the same file, without network and serialization framework.
+ * The signals {@link de.muspellheim.signalslot.ipc.SharedMemoryIntSignal},
+ * {@link de.muspellheim.signalslot.ipc.SharedMemoryLongSignal} and
+ * {@link de.muspellheim.signalslot.ipc.SharedMemoryDoubleSignal} pass primitive values without boxing.</p>
+ */
+package de.muspellheim.signalslot.ipc;
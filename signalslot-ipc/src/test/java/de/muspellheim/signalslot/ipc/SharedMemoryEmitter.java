@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+/**
+ * Emits integers on a shared memory signal in another process.
+ * <p>Arguments are the file and the number of values to emit, starting with 0.</p>
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SharedMemoryEmitter {
+
+    private SharedMemoryEmitter() {
+        // main class
+    }
+
+    public static void main(final String[] args) throws IOException {
+        final int count = Integer.parseInt(args[1]);
+        try (SharedMemorySignal1<Integer> signal = new SharedMemorySignal1<>(Paths.get(args[0]), Codec.ints())) {
+            for (int i = 0; i < count; i++) {
+                signal.emit(i);
+            }
+        }
+    }
+
+}
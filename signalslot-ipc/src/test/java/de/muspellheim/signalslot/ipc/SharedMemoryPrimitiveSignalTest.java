@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import de.muspellheim.signalslot.WaitStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Shared memory signals for primitive values share the file format of the codecs for boxed values.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SharedMemoryPrimitiveSignalTest {
+
+    private static final long TIMEOUT = 10;
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @Rule
+    public TemporaryFolder getFolder() {
+        return folder;
+    }
+
+    @Test
+    public void testIntSignalSharesFileWithIntCodec() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemoryIntSignal sender = new SharedMemoryIntSignal(file, 16, WaitStrategy.SLEEPING);
+             SharedMemorySignal1<Integer> receiver = new SharedMemorySignal1<>(file, Codec.ints(), 16, 4,
+                     WaitStrategy.SLEEPING);
+             SharedMemoryIntSignal primitiveReceiver = new SharedMemoryIntSignal(file, 16, WaitStrategy.SLEEPING)) {
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            final BlockingQueue<Integer> primitiveValues = new LinkedBlockingQueue<>();
+            receiver.connect(values::add);
+            primitiveReceiver.connect(primitiveValues::add);
+
+            sender.emit(1);
+            receiver.emit(2);
+
+            assertEquals(Arrays.asList(1, 2), take(values, 2));
+            assertEquals(Arrays.asList(1, 2), take(primitiveValues, 2));
+            assertEquals(4, sender.getRecordSize());
+        }
+    }
+
+    @Test
+    public void testLongSignal() throws Exception {
+        try (SharedMemoryLongSignal signal = new SharedMemoryLongSignal(folder.newFile().toPath())) {
+            final BlockingQueue<Long> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            signal.emit(Long.MIN_VALUE);
+            signal.emit(42L);
+
+            assertEquals(Arrays.asList(Long.MIN_VALUE, 42L), take(values, 2));
+        }
+    }
+
+    @Test
+    public void testDoubleSignalSharesFileWithDoubleCodec() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemoryDoubleSignal sender = new SharedMemoryDoubleSignal(file, 16, WaitStrategy.SLEEPING);
+             SharedMemorySignal1<Double> receiver = new SharedMemorySignal1<>(file, Codec.doubles(), 16, 8,
+                     WaitStrategy.SLEEPING)) {
+            final BlockingQueue<Double> values = new LinkedBlockingQueue<>();
+            receiver.connect(values::add);
+
+            sender.emit(12.5);
+            sender.emit(Double.NaN);
+
+            assertEquals(Arrays.asList(12.5, Double.NaN), take(values, 2));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEmitIntAfterClose() throws Exception {
+        final SharedMemoryIntSignal signal = new SharedMemoryIntSignal(folder.newFile().toPath());
+        signal.close();
+
+        signal.emit(1);
+    }
+
+    private static <T> List<T> take(final BlockingQueue<T> values, final int count) throws InterruptedException {
+        final List<T> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final T value = values.poll(TIMEOUT, TimeUnit.SECONDS);
+            assertNotNull("value " + i + " not received", value);
+            result.add(value);
+        }
+        return result;
+    }
+
+}
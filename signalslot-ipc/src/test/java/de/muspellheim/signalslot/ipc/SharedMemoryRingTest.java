@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * The consumers of the ring buffer do not stall on a slot abandoned by its producer.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SharedMemoryRingTest {
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @Rule
+    public TemporaryFolder getFolder() {
+        return folder;
+    }
+
+    @Test
+    public void testWaitForSlotBeingWritten() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemoryRing producer = new SharedMemoryRing(file, 8, 8);
+             SharedMemoryRing consumer = new SharedMemoryRing(file, 8, 8)) {
+            producer.claim();
+            producer.publishInt(1);
+            producer.publishInt(2);
+
+            assertEquals(Collections.emptyList(), pollAll(consumer));
+            assertEquals(0, consumer.getLost());
+        }
+    }
+
+    @Test
+    public void testSkipAbandonedSlot() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemoryRing producer = new SharedMemoryRing(file, 8, 8);
+             SharedMemoryRing consumer = new SharedMemoryRing(file, 8, 8)) {
+            producer.publishInt(1);
+            producer.claim();
+            for (int i = 2; i <= 6; i++) {
+                producer.publishInt(i);
+            }
+
+            assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6), pollAll(consumer));
+            assertEquals(1, consumer.getLost());
+        }
+    }
+
+    private static List<Integer> pollAll(final SharedMemoryRing ring) {
+        final List<Integer> values = new ArrayList<>();
+        boolean polled = true;
+        while (polled) {
+            polled = ring.poll(source -> values.add(source.getInt()));
+        }
+        return values;
+    }
+
+}
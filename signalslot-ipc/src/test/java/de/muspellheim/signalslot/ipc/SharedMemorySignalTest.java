@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.ipc;
+
+import de.muspellheim.signalslot.WaitStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Values emitted on a shared memory signal are received by all signals on the same file, also in other processes.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SharedMemorySignalTest {
+
+    private static final long TIMEOUT = 10;
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+
+    @Rule
+    public TemporaryFolder getFolder() {
+        return folder;
+    }
+
+    @Test
+    public void testEmitToSignalOnSameFile() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemorySignal1<Integer> sender = new SharedMemorySignal1<>(file, Codec.ints());
+             SharedMemorySignal1<Integer> receiver = new SharedMemorySignal1<>(file, Codec.ints())) {
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            receiver.connect(values::add);
+
+            sender.emit(1);
+            sender.emit(2);
+            sender.emit(3);
+
+            assertEquals(Arrays.asList(1, 2, 3), take(values, 3));
+            assertEquals(0, receiver.getLostCount());
+        }
+    }
+
+    @Test
+    public void testSenderReceivesOwnValues() throws Exception {
+        try (SharedMemorySignal1<Long> signal = new SharedMemorySignal1<>(folder.newFile().toPath(), Codec.longs())) {
+            final BlockingQueue<Long> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            signal.emit(42L);
+
+            assertEquals(Collections.singletonList(42L), take(values, 1));
+        }
+    }
+
+    @Test
+    public void testReceiveOnlyValuesEmittedAfterOpen() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemorySignal1<Double> sender = new SharedMemorySignal1<>(file, Codec.doubles())) {
+            sender.emit(1.0);
+            try (SharedMemorySignal1<Double> receiver = new SharedMemorySignal1<>(file, Codec.doubles())) {
+                final BlockingQueue<Double> values = new LinkedBlockingQueue<>();
+                receiver.connect(values::add);
+
+                sender.emit(2.0);
+
+                assertEquals(Collections.singletonList(2.0), take(values, 1));
+                assertNull(values.poll(100, TimeUnit.MILLISECONDS));
+            }
+        }
+    }
+
+    @Test
+    public void testFlatRecordCodec() throws Exception {
+        final Codec<Tick> codec = Codec.of((t, b) -> b.putLong(t.getTime()).putDouble(t.getPrice()),
+                b -> new Tick(b.getLong(), b.getDouble()));
+        try (SharedMemorySignal1<Tick> signal = new SharedMemorySignal1<>(folder.newFile().toPath(), codec, 16, 16,
+                WaitStrategy.YIELDING)) {
+            final BlockingQueue<Tick> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            signal.emit(new Tick(1000L, 12.5));
+
+            final Tick tick = take(values, 1).get(0);
+            assertEquals(1000L, tick.getTime());
+            assertEquals(12.5, tick.getPrice(), 0.0);
+        }
+    }
+
+    @Test
+    public void testStringCodec() throws Exception {
+        try (SharedMemorySignal1<String> signal = new SharedMemorySignal1<>(folder.newFile().toPath(),
+                Codec.strings())) {
+            final BlockingQueue<String> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            signal.emit("Foo");
+            signal.emit("");
+            signal.emit("Grüße");
+
+            assertEquals(Arrays.asList("Foo", "", "Grüße"), take(values, 3));
+        }
+    }
+
+    @Test
+    public void testSkipValueLargerThanRecordSize() throws Exception {
+        try (SharedMemorySignal1<String> signal = new SharedMemorySignal1<>(folder.newFile().toPath(),
+                Codec.strings(), 4, 8, WaitStrategy.SLEEPING)) {
+            final BlockingQueue<String> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            try {
+                signal.emit("larger than eight bytes");
+                fail("IllegalArgumentException expected");
+            } catch (IllegalArgumentException e) {
+                assertTrue(e.getMessage().startsWith("value does not fit into record size 8"));
+            }
+            signal.emit("Foo");
+
+            assertEquals(Collections.singletonList("Foo"), take(values, 1));
+            assertEquals(0, signal.getLostCount());
+        }
+    }
+
+    @Test
+    public void testLoseRecordCodecFailsToRead() throws Exception {
+        final Codec<Integer> codec = Codec.of((v, b) -> b.putInt(v), FailingDecoder::decode);
+        try (SharedMemorySignal1<Integer> signal = new SharedMemorySignal1<>(folder.newFile().toPath(), codec, 16, 4,
+                WaitStrategy.SLEEPING)) {
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            signal.connect(values::add);
+
+            signal.emit(1);
+            signal.emit(FailingDecoder.FAILING);
+            signal.emit(2);
+
+            assertEquals(Arrays.asList(1, 2), take(values, 2));
+            assertEquals(1, signal.getLostCount());
+        }
+    }
+
+    @Test
+    public void testLoseValuesWhenLapped() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemorySignal1<Integer> sender = new SharedMemorySignal1<>(file, Codec.ints(), 4, 4,
+                WaitStrategy.SLEEPING);
+             SharedMemorySignal1<Integer> receiver = new SharedMemorySignal1<>(file, Codec.ints(), 4, 4,
+                     WaitStrategy.SLEEPING)) {
+            for (int i = 0; i < 10; i++) {
+                sender.emit(i);
+            }
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            receiver.connect(values::add);
+
+            final List<Integer> received = take(values, 3);
+            assertEquals(Arrays.asList(7, 8, 9), received);
+            assertEquals(7, receiver.getLostCount());
+        }
+    }
+
+    @Test
+    public void testRoundUpCapacity() throws Exception {
+        try (SharedMemorySignal1<Integer> signal = new SharedMemorySignal1<>(folder.newFile().toPath(), Codec.ints(),
+                100, 4, WaitStrategy.SLEEPING)) {
+            assertEquals(128, signal.getCapacity());
+            assertEquals(4, signal.getRecordSize());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectOtherCapacity() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemorySignal1<Integer> signal = new SharedMemorySignal1<>(file, Codec.ints(), 4, 4,
+                WaitStrategy.SLEEPING)) {
+            new SharedMemorySignal1<>(file, Codec.ints(), 8, 4, WaitStrategy.SLEEPING);
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testEmitAfterClose() throws Exception {
+        final SharedMemorySignal1<Integer> signal = new SharedMemorySignal1<>(folder.newFile().toPath(),
+                Codec.ints());
+        signal.close();
+
+        signal.emit(1);
+    }
+
+    @Test
+    public void testEmitFromOtherProcess() throws Exception {
+        final Path file = folder.newFile().toPath();
+        try (SharedMemorySignal1<Integer> receiver = new SharedMemorySignal1<>(file, Codec.ints())) {
+            final BlockingQueue<Integer> values = new LinkedBlockingQueue<>();
+            receiver.connect(values::add);
+
+            final Process emitter = startEmitter(file, 100);
+
+            assertTrue(emitter.waitFor(TIMEOUT, TimeUnit.SECONDS));
+            assertEquals(0, emitter.exitValue());
+            final List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                expected.add(i);
+            }
+            assertEquals(expected, take(values, 100));
+            assertEquals(0, receiver.getLostCount());
+        }
+    }
+
+    private static Process startEmitter(final Path file, final int count) throws IOException {
+        final String java = System.getProperty("java.home") + File.separator + "bin" + File.separator + "java";
+        return new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                SharedMemoryEmitter.class.getName(), file.toString(), String.valueOf(count)).inheritIO().start();
+    }
+
+    private static <T> List<T> take(final BlockingQueue<T> values, final int count) throws InterruptedException {
+        final List<T> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final T value = values.poll(TIMEOUT, TimeUnit.SECONDS);
+            assertNotNull("value " + i + " not received", value);
+            result.add(value);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes integers, but fails on one value.
+     */
+    private static final class FailingDecoder {
+
+        static final int FAILING = 13;
+
+        private FailingDecoder() {
+            // utility class
+        }
+
+        static Integer decode(final ByteBuffer source) {
+            final int value = source.getInt();
+            if (value == FAILING) {
+                throw new IllegalArgumentException("invalid value: " + value);
+            }
+            return value;
+        }
+
+    }
+
+    /**
+     * A flat record.
+     */
+    private static final class Tick {
+
+        private final long time;
+        private final double price;
+
+        Tick(final long time, final double price) {
+            this.time = time;
+            this.price = price;
+        }
+
+        long getTime() {
+            return time;
+        }
+
+        double getPrice() {
+            return price;
+        }
+
+    }
+
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * An emit of a signal, from calling the first slot until the last slot returned.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@Name("de.muspellheim.signalslot.Emit")
+@Label("Signal Emit")
+@Category("Signal and Slot")
+@Description("An emit of a signal calling all its slots")
+@Threshold("1 ms")
+@StackTrace(false)
+class EmitEvent extends Event {
+
+    @Label("Signal")
+    private String signal;
+
+    @Label("Fan-out")
+    @Description("Number of called slots")
+    private int fanOut;
+
+    void set(final String signalName, final int slotCount) {
+        signal = signalName;
+        fanOut = slotCount;
+    }
+
+}
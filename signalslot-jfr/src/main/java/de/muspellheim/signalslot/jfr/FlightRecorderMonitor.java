@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.jfr;
+
+import de.muspellheim.signalslot.SignalMonitor;
+import jdk.jfr.EventType;
+
+import java.util.Objects;
+
+/**
+ * Records emits and slot calls of a signal as Java Flight Recorder events.
+ * <pre>
+ * signal.setMonitor(new FlightRecorderMonitor("orders"));
+ * </pre>
+ * <p>The events <code>de.muspellheim.signalslot.Emit</code> and <code>de.muspellheim.signalslot.SlotCall</code> are
+ * timed events, they begin before the first slot respectively the slot is called and end after it returned. Only
+ * events taking at least the threshold of the recording are committed, the default threshold is 1 ms. Change it in the
+ * recording settings, e.g. <code>recording.enable("de.muspellheim.signalslot.SlotCall").withThreshold(...)</code>.
+ * While no recording is running, the monitor only checks if the events are enabled.</p>
+ * <p>If a signal emits again on the same thread while calling a slot, only the innermost emit and slot call are
+ * recorded.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class FlightRecorderMonitor implements SignalMonitor {
+
+    private static final EventType EMITS = EventType.getEventType(EmitEvent.class);
+    private static final EventType SLOT_CALLS = EventType.getEventType(SlotEvent.class);
+
+    private final String signal;
+    private final ThreadLocal<Pending> pending = ThreadLocal.withInitial(Pending::new);
+
+    /**
+     * Creates a monitor.
+     *
+     * @param signal the name of the monitored signal
+     */
+    public FlightRecorderMonitor(final String signal) {
+        this.signal = Objects.requireNonNull(signal, "signal");
+    }
+
+    public String getSignal() {
+        return signal;
+    }
+
+    @Override
+    public void emitting() {
+        if (EMITS.isEnabled()) {
+            final EmitEvent event = new EmitEvent();
+            event.begin();
+            pending.get().emit = event;
+        }
+    }
+
+    @Override
+    public void slotCalling(final Object slot) {
+        if (SLOT_CALLS.isEnabled()) {
+            final SlotEvent event = new SlotEvent();
+            event.begin();
+            final Pending current = pending.get();
+            current.slot = slot;
+            current.slotCall = event;
+        }
+    }
+
+    @Override
+    public void slotCalled(final Object slot, final long durationNanos) {
+        if (!SLOT_CALLS.isEnabled()) {
+            return;
+        }
+
+        final SlotEvent event = pending.get().takeSlotCall(slot);
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(signal, slot);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void emitted(final int fanOut, final long durationNanos) {
+        if (!EMITS.isEnabled()) {
+            return;
+        }
+
+        final EmitEvent event = pending.get().takeEmit();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(signal, fanOut);
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Drops are not recorded, see {@link de.muspellheim.signalslot.SignalMetrics} for counting them.
+     */
+    @Override
+    public void dropped() {
+    }
+
+    @Override
+    public String toString() {
+        return "FlightRecorderMonitor[signal=" + signal + "]";
+    }
+
+    /**
+     * The events begun on a thread, but not yet ended.
+     * <p>A slot throwing leaves its event behind, it is replaced by the next one.</p>
+     */
+    private static final class Pending {
+
+        private EmitEvent emit;
+        private SlotEvent slotCall;
+        private Object slot;
+
+        EmitEvent takeEmit() {
+            final EmitEvent result = emit;
+            emit = null;
+            return result;
+        }
+
+        /**
+         * Returns the event of the given slot or <code>null</code>, if the pending event belongs to another slot.
+         */
+        SlotEvent takeSlotCall(final Object calledSlot) {
+            final SlotEvent result = slot == calledSlot ? slotCall : null;
+            slotCall = null;
+            slot = null;
+            return result;
+        }
+
+    }
+
+}
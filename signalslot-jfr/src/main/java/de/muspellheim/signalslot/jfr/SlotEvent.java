@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A call of a slot by a signal.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@Name("de.muspellheim.signalslot.SlotCall")
+@Label("Slot Call")
+@Category("Signal and Slot")
+@Description("A slot receiving a value of a signal")
+@Threshold("1 ms")
+@StackTrace(false)
+class SlotEvent extends Event {
+
+    @Label("Signal")
+    private String signal;
+
+    @Label("Slot Class")
+    private Class<?> slotClass;
+
+    @Label("Slot Identity")
+    @Description("Identity hash code of the slot")
+    private int slotIdentity;
+
+    void set(final String signalName, final Object slot) {
+        signal = signalName;
+        slotClass = slot.getClass();
+        slotIdentity = System.identityHashCode(slot);
+    }
+
+}
@@ -0,0 +1,11 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * Java Flight Recorder events for Signal and Slot for Java.
+ * <p>Set a {@link de.muspellheim.signalslot.jfr.FlightRecorderMonitor} as monitor of a signal to record its slow emits
+ * and slot calls.</p>
+ */
+package de.muspellheim.signalslot.jfr;
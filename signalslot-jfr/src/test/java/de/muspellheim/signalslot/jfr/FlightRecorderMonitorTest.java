@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.jfr;
+
+import de.muspellheim.signalslot.Signal1;
+import de.muspellheim.signalslot.Slot1;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Slow emits and slot calls are recorded as flight recorder events.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class FlightRecorderMonitorTest {
+
+    @Test
+    public void testRecordSlowSlots() throws Exception {
+        final Signal1<String> signal = new Signal1<>();
+        final Slot1<String> slowSlot = new SlowSlot();
+        signal.connect(v -> { });
+        signal.connect(slowSlot);
+        signal.setMonitor(new FlightRecorderMonitor("test"));
+
+        final List<RecordedEvent> events = record(Duration.ofMillis(1), () -> signal.emit("Foo"));
+
+        final List<RecordedEvent> slotCalls = filter(events, "de.muspellheim.signalslot.SlotCall");
+        assertEquals(1, slotCalls.size());
+        assertEquals("test", slotCalls.get(0).getString("signal"));
+        assertEquals(slowSlot.getClass().getName(), slotCalls.get(0).getClass("slotClass").getName());
+        assertEquals(System.identityHashCode(slowSlot), slotCalls.get(0).getInt("slotIdentity"));
+        assertTrue(slotCalls.get(0).getDuration().toNanos() >= 1_000_000);
+        final List<RecordedEvent> emits = filter(events, "de.muspellheim.signalslot.Emit");
+        assertEquals(1, emits.size());
+        assertEquals(2, emits.get(0).getInt("fanOut"));
+        assertTrue(emits.get(0).getDuration().compareTo(slotCalls.get(0).getDuration()) >= 0);
+    }
+
+    @Test
+    public void testSkipFastSlots() throws Exception {
+        final Signal1<String> signal = new Signal1<>();
+        signal.connect(v -> { });
+        signal.setMonitor(new FlightRecorderMonitor("test"));
+
+        final List<RecordedEvent> events = record(Duration.ofSeconds(1), () -> signal.emit("Foo"));
+
+        assertTrue(filter(events, "de.muspellheim.signalslot.SlotCall").isEmpty());
+        assertTrue(filter(events, "de.muspellheim.signalslot.Emit").isEmpty());
+    }
+
+    @Test
+    public void testSkipSlotsWhileNotRecording() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect(received::add);
+        signal.setMonitor(new FlightRecorderMonitor("test"));
+
+        signal.emit("Foo");
+
+        assertEquals(Collections.singletonList("Foo"), received);
+    }
+
+    private static List<RecordedEvent> record(final Duration threshold, final Runnable action) throws Exception {
+        final Path file = Files.createTempFile("signalslot", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EmitEvent.class).withThreshold(threshold);
+            recording.enable(SlotEvent.class).withThreshold(threshold);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static List<RecordedEvent> filter(final List<RecordedEvent> events, final String name) {
+        return events.stream().filter(e -> name.equals(e.getEventType().getName())).collect(Collectors.toList());
+    }
+
+    /**
+     * Takes two milliseconds for each value.
+     */
+    private static final class SlowSlot implements Slot1<String> {
+
+        @Override
+        public void receive(final String value) {
+            try {
+                Thread.sleep(2);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a signal field as source for slot methods.
+ * <p>The field must not be private, and public if the slot methods are in another package.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see SlotMethod
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface Signal {
+
+    /**
+     * The name of the signal, the field name by default.
+     */
+    String value() default "";
+
+}
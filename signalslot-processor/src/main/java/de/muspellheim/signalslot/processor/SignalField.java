@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import java.util.List;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * A field annotated as signal, with the types of the values the signal emits.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SignalField {
+
+    private final VariableElement field;
+    private final List<TypeMirror> valueTypes;
+
+    SignalField(final VariableElement field, final List<TypeMirror> valueTypes) {
+        this.field = field;
+        this.valueTypes = valueTypes;
+    }
+
+    VariableElement getField() {
+        return field;
+    }
+
+    TypeElement getOwner() {
+        return (TypeElement) field.getEnclosingElement();
+    }
+
+    List<TypeMirror> getValueTypes() {
+        return valueTypes;
+    }
+
+    String getName() {
+        final String name = field.getAnnotation(Signal.class).value();
+        return name.isEmpty() ? field.getSimpleName().toString() : name;
+    }
+
+    boolean isStatic() {
+        return field.getModifiers().contains(Modifier.STATIC);
+    }
+
+    /**
+     * Tests if the source of a slot method references this signal.
+     */
+    boolean matches(final String source) {
+        final String name = getName();
+        return source.equals(name)
+                || source.equals(getOwner().getSimpleName() + "." + name)
+                || source.equals(getOwner().getQualifiedName() + "." + name);
+    }
+
+}
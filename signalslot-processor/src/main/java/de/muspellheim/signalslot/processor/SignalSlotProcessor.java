@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates the connect calls between signal fields and slot methods at compile time.
+ * <p>For each class with methods annotated with {@link SlotMethod}, the processor generates a class
+ * <code>&lt;Target&gt;Wiring</code> in the same package. Its static method <code>connect</code> takes the target and
+ * the instances declaring the signals and connects the slot methods with method references, so wiring costs nothing
+ * beyond direct calls at runtime.</p>
+ * <p>The processor checks at compile time, that the source of a slot method is a known and accessible signal and
+ * that the parameters of the slot method accept the values of the signal. Signals are looked up in the classes
+ * compiled together with the slot methods, or with a qualified source also in already compiled classes.</p>
+ * <p>The signals and slot methods are collected across all rounds, so a signal may also be declared in a source
+ * generated by another processor. The wiring of a class is generated in the first round all sources of its slot
+ * methods are known, an unknown source is reported after the last round.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@SupportedAnnotationTypes({
+        "de.muspellheim.signalslot.processor.Signal",
+        "de.muspellheim.signalslot.processor.SlotMethod"})
+public class SignalSlotProcessor extends AbstractProcessor {
+
+    private final List<SignalField> signals = new ArrayList<>();
+    private final Map<TypeElement, List<ExecutableElement>> pendingSlots = new LinkedHashMap<>();
+    private boolean failed;
+
+    @Override
+    public final SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public final boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        signals.addAll(collectSignals(roundEnv));
+        for (ExecutableElement e : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(SlotMethod.class))) {
+            final TypeElement target = (TypeElement) e.getEnclosingElement();
+            pendingSlots.computeIfAbsent(target, k -> new ArrayList<>()).add(e);
+        }
+        final Map<TypeElement, List<SlotBinding>> wirings = collectSlots(roundEnv.processingOver());
+        if (!failed) {
+            writeWirings(wirings);
+        }
+        return true;
+    }
+
+    private List<SignalField> collectSignals(final RoundEnvironment roundEnv) {
+        final List<SignalField> result = new ArrayList<>();
+        for (VariableElement e : ElementFilter.fieldsIn(roundEnv.getElementsAnnotatedWith(Signal.class))) {
+            final SignalField signal = signalField(e);
+            if (signal == null) {
+                error("@Signal requires a signal type, but was " + e.asType(), e);
+            } else if (e.getModifiers().contains(Modifier.PRIVATE)) {
+                error("Signal " + signal.getName() + " must not be private", e);
+            } else {
+                result.add(signal);
+            }
+        }
+        return result;
+    }
+
+    private SignalField signalField(final VariableElement field) {
+        final SignalTypes signalTypes = new SignalTypes(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+        final List<TypeMirror> valueTypes = signalTypes.valueTypes(field.asType());
+        return valueTypes != null ? new SignalField(field, valueTypes) : null;
+    }
+
+    /**
+     * Binds the pending slot methods of each class whose sources are all known, or of all classes after the last
+     * round.
+     */
+    private Map<TypeElement, List<SlotBinding>> collectSlots(final boolean lastRound) {
+        final Map<TypeElement, List<SlotBinding>> result = new LinkedHashMap<>();
+        final Iterator<Map.Entry<TypeElement, List<ExecutableElement>>> pending = pendingSlots.entrySet().iterator();
+        while (pending.hasNext()) {
+            final Map.Entry<TypeElement, List<ExecutableElement>> entry = pending.next();
+            if (lastRound || allSourcesKnown(entry.getValue())) {
+                pending.remove();
+                final List<SlotBinding> bindings = new ArrayList<>();
+                for (ExecutableElement e : entry.getValue()) {
+                    final SlotBinding binding = bind(e);
+                    if (binding != null) {
+                        bindings.add(binding);
+                    }
+                }
+                result.put(entry.getKey(), bindings);
+            }
+        }
+        return result;
+    }
+
+    private boolean allSourcesKnown(final List<ExecutableElement> methods) {
+        boolean result = true;
+        for (int i = 0; result && i < methods.size(); i++) {
+            result = !findSignals(methods.get(i).getAnnotation(SlotMethod.class).source()).isEmpty();
+        }
+        return result;
+    }
+
+    private SlotBinding bind(final ExecutableElement method) {
+        final String source = method.getAnnotation(SlotMethod.class).source();
+        final List<SignalField> candidates = findSignals(source);
+        SlotBinding result = null;
+        if (candidates.isEmpty()) {
+            error("Unknown signal " + source, method);
+        } else if (candidates.size() > 1) {
+            error("Ambiguous signal " + source + ", qualify it with the class name", method);
+        } else if (checkAccess(method, candidates.get(0)) & checkParameters(method, candidates.get(0), source)) {
+            result = new SlotBinding(method, candidates.get(0));
+        }
+        return result;
+    }
+
+    private List<SignalField> findSignals(final String source) {
+        final List<SignalField> result = new ArrayList<>();
+        for (SignalField e : signals) {
+            if (e.matches(source)) {
+                result.add(e);
+            }
+        }
+        final int dot = source.lastIndexOf('.');
+        if (result.isEmpty() && dot > 0) {
+            final TypeElement owner = processingEnv.getElementUtils().getTypeElement(source.substring(0, dot));
+            result.addAll(compiledSignals(owner, source));
+        }
+        return result;
+    }
+
+    private List<SignalField> compiledSignals(final TypeElement owner, final String source) {
+        final List<SignalField> result = new ArrayList<>();
+        final List<VariableElement> fields = owner != null
+                ? ElementFilter.fieldsIn(owner.getEnclosedElements())
+                : new ArrayList<>();
+        for (VariableElement e : fields) {
+            final SignalField signal = e.getAnnotation(Signal.class) != null ? signalField(e) : null;
+            if (signal != null && signal.matches(source)) {
+                result.add(signal);
+            }
+        }
+        return result;
+    }
+
+    private boolean checkAccess(final ExecutableElement method, final SignalField signal) {
+        final TypeElement target = (TypeElement) method.getEnclosingElement();
+        final boolean samePackage = processingEnv.getElementUtils().getPackageOf(target)
+                .equals(processingEnv.getElementUtils().getPackageOf(signal.getOwner()));
+        final boolean signalAccessible = !signal.getField().getModifiers().contains(Modifier.PRIVATE)
+                && (samePackage || isPublic(signal.getField()) && isPublic(signal.getOwner()));
+        if (!signalAccessible) {
+            error("Signal " + signal.getName() + " is not accessible from package of slot method", method);
+        }
+        final boolean slotAccessible = !method.getModifiers().contains(Modifier.PRIVATE)
+                && !target.getModifiers().contains(Modifier.PRIVATE);
+        if (!slotAccessible) {
+            error("Slot method " + method.getSimpleName() + " and its class must not be private", method);
+        }
+        return signalAccessible && slotAccessible;
+    }
+
+    private static boolean isPublic(final Element element) {
+        return element.getModifiers().contains(Modifier.PUBLIC);
+    }
+
+    private boolean checkParameters(final ExecutableElement method, final SignalField signal, final String source) {
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final List<TypeMirror> valueTypes = signal.getValueTypes();
+        boolean result = parameters.size() == valueTypes.size();
+        for (int i = 0; result && i < parameters.size(); i++) {
+            result = processingEnv.getTypeUtils().isAssignable(valueTypes.get(i), parameters.get(i).asType());
+        }
+        if (!result) {
+            error("Slot method " + method + " does not accept the values " + valueTypes + " of signal " + source,
+                    method);
+        }
+        return result;
+    }
+
+    private void writeWirings(final Map<TypeElement, List<SlotBinding>> wirings) {
+        final WiringWriter writer = new WiringWriter(processingEnv.getTypeUtils(), processingEnv.getElementUtils());
+        for (Map.Entry<TypeElement, List<SlotBinding>> e : wirings.entrySet()) {
+            try {
+                writer.write(processingEnv.getFiler(), e.getKey(), e.getValue());
+            } catch (IOException ex) {
+                error("Can not write wiring: " + ex.getMessage(), e.getKey());
+            }
+        }
+    }
+
+    private void error(final String message, final Element element) {
+        failed = true;
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+}
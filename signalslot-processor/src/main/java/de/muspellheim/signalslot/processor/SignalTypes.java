@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Determines the types of the values a signal emits.
+ * <p>Knows the signals <code>Signal0</code> to <code>Signal6</code>, the primitive signals and all their
+ * subclasses.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SignalTypes {
+
+    private static final String PACKAGE = "de.muspellheim.signalslot.";
+    private static final String[] PRIMITIVE_SIGNALS = {"IntSignal", "LongSignal", "DoubleSignal", "BooleanSignal"};
+    private static final TypeKind[] PRIMITIVE_KINDS = {TypeKind.INT, TypeKind.LONG, TypeKind.DOUBLE, TypeKind.BOOLEAN};
+    private static final int MAX_ARITY = 6;
+
+    private final Types types;
+    private final TypeMirror objectType;
+
+    SignalTypes(final Types types, final Elements elements) {
+        this.types = types;
+        this.objectType = elements.getTypeElement(Object.class.getName()).asType();
+    }
+
+    /**
+     * Returns the types of the values, a signal of the given type emits.
+     *
+     * @return the value types, or <code>null</code> if the type is no signal.
+     */
+    List<TypeMirror> valueTypes(final TypeMirror type) {
+        final Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.add(type);
+        List<TypeMirror> result = null;
+        while (result == null && !pending.isEmpty()) {
+            final TypeMirror current = pending.poll();
+            if (current.getKind() == TypeKind.DECLARED) {
+                result = valueTypesOf((DeclaredType) current);
+                pending.addAll(types.directSupertypes(current));
+            }
+        }
+        return result;
+    }
+
+    private List<TypeMirror> valueTypesOf(final DeclaredType type) {
+        final String name = ((TypeElement) type.asElement()).getQualifiedName().toString();
+        final TypeKind primitive = primitiveKindOf(name);
+        if (primitive != null) {
+            return Collections.<TypeMirror>singletonList(types.getPrimitiveType(primitive));
+        }
+        final int arity = arityOf(name);
+        return arity < 0 ? null : typeArguments(type, arity);
+    }
+
+    private static TypeKind primitiveKindOf(final String name) {
+        for (int i = 0; i < PRIMITIVE_SIGNALS.length; i++) {
+            if (name.equals(PACKAGE + PRIMITIVE_SIGNALS[i])) {
+                return PRIMITIVE_KINDS[i];
+            }
+        }
+        return null;
+    }
+
+    private static int arityOf(final String name) {
+        for (int n = 0; n <= MAX_ARITY; n++) {
+            if (name.equals(PACKAGE + "Signal" + n)) {
+                return n;
+            }
+        }
+        return -1;
+    }
+
+    private List<TypeMirror> typeArguments(final DeclaredType type, final int arity) {
+        final List<TypeMirror> result = new ArrayList<>(arity);
+        for (TypeMirror e : type.getTypeArguments()) {
+            result.add(upperBound(e));
+        }
+        while (result.size() < arity) {
+            // raw type
+            result.add(objectType);
+        }
+        return result;
+    }
+
+    private TypeMirror upperBound(final TypeMirror type) {
+        if (type.getKind() == TypeKind.WILDCARD) {
+            final TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            return bound != null ? upperBound(bound) : objectType;
+        }
+        return type.getKind() == TypeKind.TYPEVAR ? types.erasure(type) : type;
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+
+/**
+ * A slot method with the signal it is connected to.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SlotBinding {
+
+    private final ExecutableElement method;
+    private final SignalField signal;
+
+    SlotBinding(final ExecutableElement method, final SignalField signal) {
+        this.method = method;
+        this.signal = signal;
+    }
+
+    ExecutableElement getMethod() {
+        return method;
+    }
+
+    SignalField getSignal() {
+        return signal;
+    }
+
+    boolean isStatic() {
+        return method.getModifiers().contains(Modifier.STATIC);
+    }
+
+}
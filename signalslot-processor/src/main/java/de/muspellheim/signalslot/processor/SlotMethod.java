@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as slot of a signal.
+ * <p>The parameters of the method must accept the values of the signal. The method must not be private.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Signal
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface SlotMethod {
+
+    /**
+     * The signal connected to this method: the name of the signal, if unique, or the simple or qualified name of the
+     * class declaring the signal and the name of the signal, separated by a dot, e.g. <code>Button.clicked</code>.
+     */
+    String source();
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+/**
+ * Writes the wiring class for the slot methods of a target class.
+ * <p>The wiring class <code>&lt;Target&gt;Wiring</code> is placed in the package of the target and has one static
+ * method <code>connect</code>, taking the target and an instance of each other class declaring a signal.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class WiringWriter {
+
+    private static final String TARGET = "target";
+    private static final String CONNECTIONS = "connections";
+    private static final String CONNECTION_LIST = "java.util.List<de.muspellheim.signalslot.Connection>";
+
+    private final Types types;
+    private final Elements elements;
+
+    WiringWriter(final Types types, final Elements elements) {
+        this.types = types;
+        this.elements = elements;
+    }
+
+    void write(final Filer filer, final TypeElement target, final List<SlotBinding> bindings) throws IOException {
+        final String packageName = elements.getPackageOf(target).getQualifiedName().toString();
+        final String simpleName = wiringName(target);
+        final String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer out = filer.createSourceFile(qualifiedName, originatingElements(target, bindings)).openWriter()) {
+            out.write(source(packageName, simpleName, target, bindings));
+        }
+    }
+
+    private static String wiringName(final TypeElement target) {
+        final StringBuilder name = new StringBuilder(target.getSimpleName());
+        Element enclosing = target.getEnclosingElement();
+        while (enclosing instanceof TypeElement) {
+            name.insert(0, enclosing.getSimpleName() + "_");
+            enclosing = enclosing.getEnclosingElement();
+        }
+        return name.append("Wiring").toString();
+    }
+
+    private static Element[] originatingElements(final TypeElement target, final List<SlotBinding> bindings) {
+        final List<Element> result = new ArrayList<>();
+        result.add(target);
+        for (SlotBinding e : bindings) {
+            if (!result.contains(e.getSignal().getOwner())) {
+                result.add(e.getSignal().getOwner());
+            }
+        }
+        return result.toArray(new Element[result.size()]);
+    }
+
+    private String source(final String packageName, final String simpleName, final TypeElement target,
+                          final List<SlotBinding> bindings) {
+        final Map<TypeElement, String> sources = sourceParameters(target, bindings);
+        final StringBuilder out = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            out.append("package ").append(packageName).append(";\n\n");
+        }
+        out.append("/**\n")
+                .append(" * Connects the slot methods of {@link ").append(typeName(target))
+                .append("} to their signals.\n")
+                .append(" * <p>Generated by ").append(SignalSlotProcessor.class.getName())
+                .append(", do not edit.</p>\n")
+                .append(" */\n")
+                .append("public final class ").append(simpleName).append(" {\n\n")
+                .append("    private ").append(simpleName).append("() {\n")
+                .append("    }\n\n")
+                .append("    /**\n")
+                .append("     * Connects the slot methods of the target to the signals of the sources.\n")
+                .append("     *\n")
+                .append("     * @return the connections, to disconnect the slot methods again.\n")
+                .append("     */\n")
+                .append("    public static ").append(CONNECTION_LIST).append(" connect(")
+                .append(parameters(target, bindings, sources)).append(") {\n")
+                .append("        final ").append(CONNECTION_LIST).append(' ').append(CONNECTIONS)
+                .append(" = new java.util.ArrayList<>(").append(bindings.size()).append(");\n");
+        for (SlotBinding e : bindings) {
+            out.append("        ").append(CONNECTIONS).append(".add(").append(signalExpression(e, target, sources))
+                    .append(".connect(").append(slotExpression(e, target)).append("));\n");
+        }
+        return out.append("        return java.util.Collections.unmodifiableList(").append(CONNECTIONS).append(");\n")
+                .append("    }\n\n")
+                .append("}\n")
+                .toString();
+    }
+
+    private static Map<TypeElement, String> sourceParameters(final TypeElement target,
+                                                            final List<SlotBinding> bindings) {
+        final Map<TypeElement, String> result = new LinkedHashMap<>();
+        for (SlotBinding e : bindings) {
+            final TypeElement owner = e.getSignal().getOwner();
+            if (!owner.equals(target) && !e.getSignal().isStatic() && !result.containsKey(owner)) {
+                result.put(owner, parameterName(owner, result));
+            }
+        }
+        return result;
+    }
+
+    private static String parameterName(final TypeElement owner, final Map<TypeElement, String> names) {
+        final String simpleName = owner.getSimpleName().toString();
+        final String base = Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+        String name = base;
+        for (int i = 2; name.equals(TARGET) || name.equals(CONNECTIONS) || names.containsValue(name); i++) {
+            name = base + i;
+        }
+        return name;
+    }
+
+    private String parameters(final TypeElement target, final List<SlotBinding> bindings,
+                              final Map<TypeElement, String> sources) {
+        final List<String> result = new ArrayList<>();
+        if (needsTarget(target, bindings)) {
+            result.add("final " + typeName(target) + " " + TARGET);
+        }
+        for (Map.Entry<TypeElement, String> e : sources.entrySet()) {
+            result.add("final " + typeName(e.getKey()) + " " + e.getValue());
+        }
+        return String.join(", ", result);
+    }
+
+    private static boolean needsTarget(final TypeElement target, final List<SlotBinding> bindings) {
+        boolean result = false;
+        for (SlotBinding e : bindings) {
+            result |= !e.isStatic() || e.getSignal().getOwner().equals(target) && !e.getSignal().isStatic();
+        }
+        return result;
+    }
+
+    private String signalExpression(final SlotBinding binding, final TypeElement target,
+                                    final Map<TypeElement, String> sources) {
+        final SignalField signal = binding.getSignal();
+        final String instance;
+        if (signal.isStatic()) {
+            instance = typeName(signal.getOwner());
+        } else {
+            instance = signal.getOwner().equals(target) ? TARGET : sources.get(signal.getOwner());
+        }
+        return instance + "." + signal.getField().getSimpleName();
+    }
+
+    private String slotExpression(final SlotBinding binding, final TypeElement target) {
+        final String instance = binding.isStatic() ? typeName(target) : TARGET;
+        return instance + "::" + binding.getMethod().getSimpleName();
+    }
+
+    private String typeName(final TypeElement type) {
+        return types.erasure(type.asType()).toString();
+    }
+
+}
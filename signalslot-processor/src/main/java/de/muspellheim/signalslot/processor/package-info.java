@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * Compile time wiring of signals and slots.
+ * <p>Annotate signal fields with {@link de.muspellheim.signalslot.processor.Signal} and slot methods with
+ * {@link de.muspellheim.signalslot.processor.SlotMethod}. The
+ * {@link de.muspellheim.signalslot.processor.SignalSlotProcessor} checks the types and generates a class
+ * <code>&lt;Target&gt;Wiring</code> with plain connect calls for each class with slot methods.</p>
+ */
+package de.muspellheim.signalslot.processor;
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * The annotation processor generates the wiring of signal fields and slot methods and checks their types.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalSlotProcessorTest {
+
+    private static final String BUTTON = "package a;\n"
+            + "import de.muspellheim.signalslot.Signal1;\n"
+            + "import de.muspellheim.signalslot.processor.Signal;\n"
+            + "public class Button {\n"
+            + "    @Signal public final Signal1<String> clicked = new Signal1<>();\n"
+            + "}\n";
+
+    private static final Pattern CLASS_NAME = Pattern.compile("package (\\S+);.*?(?:class|interface) (\\w+)",
+            Pattern.DOTALL);
+
+    private final TemporaryFolder folder = new TemporaryFolder();
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Rule
+    public TemporaryFolder getFolder() {
+        return folder;
+    }
+
+    @Test
+    public void testWiring() throws Exception {
+        final boolean success = compile(BUTTON,
+                "package b;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Handler {\n"
+                        + "    final StringBuilder log = new StringBuilder();\n"
+                        + "    @SlotMethod(source = \"Button.clicked\") void onClicked(CharSequence s) {\n"
+                        + "        log.append(s);\n"
+                        + "    }\n"
+                        + "}\n",
+                "package b;\n"
+                        + "public class Main implements java.util.concurrent.Callable<String> {\n"
+                        + "    public String call() {\n"
+                        + "        a.Button button = new a.Button();\n"
+                        + "        Handler handler = new Handler();\n"
+                        + "        java.util.List<de.muspellheim.signalslot.Connection> c = "
+                        + "HandlerWiring.connect(handler, button);\n"
+                        + "        button.clicked.emit(\"Foo\");\n"
+                        + "        c.get(0).disconnect();\n"
+                        + "        button.clicked.emit(\"Bar\");\n"
+                        + "        return handler.log.toString();\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertEquals("Foo", run("b.Main"));
+        final String wiring = new String(Files.readAllBytes(folder.getRoot().toPath()
+                .resolve("generated/b/HandlerWiring.java")), StandardCharsets.UTF_8);
+        assertTrue(wiring, wiring.contains("connections.add(button.clicked.connect(target::onClicked));"));
+    }
+
+    @Test
+    public void testWiring_SameClass() throws Exception {
+        final boolean success = compile(
+                "package a;\n"
+                        + "import de.muspellheim.signalslot.IntSignal;\n"
+                        + "import de.muspellheim.signalslot.Signal0;\n"
+                        + "import de.muspellheim.signalslot.processor.Signal;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Counter implements java.util.concurrent.Callable<String> {\n"
+                        + "    @Signal(\"changed\") final IntSignal count = new IntSignal();\n"
+                        + "    @Signal final Signal0 reset = new Signal0();\n"
+                        + "    long sum;\n"
+                        + "    @SlotMethod(source = \"changed\") void add(long value) {\n"
+                        + "        sum += value;\n"
+                        + "    }\n"
+                        + "    @SlotMethod(source = \"Counter.reset\") void clear() {\n"
+                        + "        sum = 0;\n"
+                        + "    }\n"
+                        + "    public String call() {\n"
+                        + "        CounterWiring.connect(this);\n"
+                        + "        count.emit(2);\n"
+                        + "        reset.emit();\n"
+                        + "        count.emit(3);\n"
+                        + "        count.emit(4);\n"
+                        + "        return String.valueOf(sum);\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertEquals("7", run("a.Counter"));
+    }
+
+    @Test
+    public void testWiring_SignalGeneratedInLaterRound() throws Exception {
+        final boolean success = compileWith(ButtonGenerator.class.getName() + "," + SignalSlotProcessor.class.getName(),
+                "package b;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Handler {\n"
+                        + "    @SlotMethod(source = \"a.Button.clicked\") void onClicked(String s) {\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+        assertTrue(Files.exists(folder.getRoot().toPath().resolve("generated/b/HandlerWiring.java")));
+    }
+
+    @Test
+    public void testTypeMismatch() throws Exception {
+        final boolean success = compile(BUTTON,
+                "package b;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Handler {\n"
+                        + "    @SlotMethod(source = \"a.Button.clicked\") void onClicked(Integer i) {\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertFalse(success);
+        assertError("Slot method onClicked(java.lang.Integer) does not accept the values [java.lang.String] "
+                + "of signal a.Button.clicked");
+    }
+
+    @Test
+    public void testUnknownSignal() throws Exception {
+        final boolean success = compile(BUTTON,
+                "package b;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Handler {\n"
+                        + "    @SlotMethod(source = \"pressed\") void onPressed(String s) {\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertFalse(success);
+        assertError("Unknown signal pressed");
+    }
+
+    @Test
+    public void testSignalNotAccessible() throws Exception {
+        final boolean success = compile(
+                "package a;\n"
+                        + "import de.muspellheim.signalslot.Signal0;\n"
+                        + "import de.muspellheim.signalslot.processor.Signal;\n"
+                        + "public class Button {\n"
+                        + "    @Signal final Signal0 clicked = new Signal0();\n"
+                        + "}\n",
+                "package b;\n"
+                        + "import de.muspellheim.signalslot.processor.SlotMethod;\n"
+                        + "public class Handler {\n"
+                        + "    @SlotMethod(source = \"clicked\") void onClicked() {\n"
+                        + "    }\n"
+                        + "}\n");
+
+        assertFalse(success);
+        assertError("Signal clicked is not accessible from package of slot method");
+    }
+
+    @Test
+    public void testNoSignalType() throws Exception {
+        final boolean success = compile(
+                "package a;\n"
+                        + "import de.muspellheim.signalslot.processor.Signal;\n"
+                        + "public class Button {\n"
+                        + "    @Signal public String clicked;\n"
+                        + "}\n");
+
+        assertFalse(success);
+        assertError("@Signal requires a signal type, but was java.lang.String");
+    }
+
+    private boolean compile(final String... sources) throws Exception {
+        return compileWith(SignalSlotProcessor.class.getName(), sources);
+    }
+
+    private boolean compileWith(final String processors, final String... sources) throws Exception {
+        final Path root = folder.getRoot().toPath();
+        final List<File> files = new ArrayList<>();
+        for (String e : sources) {
+            final Matcher matcher = CLASS_NAME.matcher(e);
+            assertTrue(matcher.find());
+            final Path file = root.resolve("src").resolve(matcher.group(1).replace('.', '/'))
+                    .resolve(matcher.group(2) + ".java");
+            Files.createDirectories(file.getParent());
+            Files.write(file, e.getBytes(StandardCharsets.UTF_8));
+            files.add(file.toFile());
+        }
+        Files.createDirectories(root.resolve("classes"));
+        Files.createDirectories(root.resolve("generated"));
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            final List<String> options = Arrays.asList(
+                    "-classpath", System.getProperty("java.class.path"),
+                    "-processor", processors,
+                    "-d", root.resolve("classes").toString(),
+                    "-s", root.resolve("generated").toString());
+            return compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjectsFromFiles(files)).call();
+        }
+    }
+
+    private Object run(final String className) throws Exception {
+        final URL classes = folder.getRoot().toPath().resolve("classes").toUri().toURL();
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{classes}, getClass().getClassLoader())) {
+            return ((Callable<?>) loader.loadClass(className).getConstructor().newInstance()).call();
+        }
+    }
+
+    private void assertError(final String message) {
+        final List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> e : diagnostics.getDiagnostics()) {
+            if (e.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(e.getMessage(null));
+            }
+        }
+        assertTrue(errors.toString(), errors.contains(message));
+    }
+
+    /**
+     * Generates the button with its signal in the first round, like any other processor generating sources.
+     */
+    @SupportedAnnotationTypes("*")
+    public static final class ButtonGenerator extends AbstractProcessor {
+
+        private boolean generated;
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return SourceVersion.latestSupported();
+        }
+
+        @Override
+        public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+            if (!generated) {
+                generated = true;
+                try (Writer out = processingEnv.getFiler().createSourceFile("a.Button").openWriter()) {
+                    out.write(BUTTON);
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
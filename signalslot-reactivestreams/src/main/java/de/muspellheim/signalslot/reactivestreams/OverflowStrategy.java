@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+/**
+ * What a {@link SignalPublisher} does with a value, if the subscriber did not request it and the buffer is full.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public enum OverflowStrategy {
+
+    /**
+     * Blocks the emitting thread until the subscriber requests more values. So the emitter is slowed down to the
+     * subscriber, but must not wait for the subscriber on the same thread.
+     */
+    BUFFER,
+
+    /**
+     * Drops the oldest value in the buffer to make room for the new value.
+     */
+    DROP_OLDEST,
+
+    /**
+     * Drops the new value.
+     */
+    DROP_NEWEST,
+
+    /**
+     * Cancels the subscription and signals an {@link IllegalStateException} to the subscriber.
+     */
+    ERROR
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+import de.muspellheim.signalslot.Signal1;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+
+import java.util.Objects;
+
+/**
+ * Publishes the values of a signal to Reactive Streams subscribers.
+ * <p>Each subscriber gets its own slot connected to the signal and a bounded buffer. Values not requested yet wait in
+ * the buffer, if the buffer is full the {@link OverflowStrategy} decides. The publisher is hot, a subscriber receives
+ * the values emitted after subscribing. The signal never completes, the subscriber cancels the subscription to
+ * disconnect from the signal.</p>
+ * <p>Values are passed to the subscriber on the emitting thread, or on the thread requesting them if they were
+ * buffered. A <code>null</code> value is signaled as {@link NullPointerException}.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class SignalPublisher<T> implements Publisher<T> {
+
+    private final Signal1<T> signal;
+    private final OverflowStrategy overflowStrategy;
+    private final int capacity;
+
+    /**
+     * Creates a publisher for a signal.
+     *
+     * @param signal           the signal to publish
+     * @param overflowStrategy what to do with values, if the buffer is full
+     * @param capacity         the number of values buffered per subscriber
+     */
+    public SignalPublisher(final Signal1<T> signal, final OverflowStrategy overflowStrategy, final int capacity) {
+        Objects.requireNonNull(signal, "signal");
+        Objects.requireNonNull(overflowStrategy, "overflowStrategy");
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.signal = signal;
+        this.overflowStrategy = overflowStrategy;
+        this.capacity = capacity;
+    }
+
+    public final OverflowStrategy getOverflowStrategy() {
+        return overflowStrategy;
+    }
+
+    public final int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public final void subscribe(final Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        final SignalSubscription<T> subscription = new SignalSubscription<>(subscriber, overflowStrategy, capacity);
+        subscriber.onSubscribe(subscription);
+        subscription.connect(signal);
+    }
+
+}
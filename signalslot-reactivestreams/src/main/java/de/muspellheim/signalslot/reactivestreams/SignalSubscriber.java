@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+import de.muspellheim.signalslot.Signal0;
+import de.muspellheim.signalslot.Signal1;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Emits the values of a Reactive Streams publisher with a signal.
+ * <p>The subscriber requests the prefetch first and requests again, when three quarters of the requested values were
+ * emitted. So the signal is driven as fast as its slots are, without unbounded buffering in between.</p>
+ * <p>A slot throwing while the signal emits a value does not propagate to the publisher, as rule 2.13 demands. The
+ * subscription is cancelled instead, the exception is emitted with {@link #failed()} and later signals of the
+ * publisher are ignored.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class SignalSubscriber<T> implements Subscriber<T> {
+
+    private static final int QUARTERS = 4;
+
+    private final Signal1<T> signal;
+    private final Signal1<Throwable> failed = new Signal1<>();
+    private final Signal0 completed = new Signal0();
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final int prefetch;
+    private final int limit;
+    private int emitted;
+    private boolean terminated;
+
+    /**
+     * Creates a subscriber driving a signal.
+     *
+     * @param signal   the signal emitting the values
+     * @param prefetch the number of values requested in advance
+     */
+    public SignalSubscriber(final Signal1<T> signal, final int prefetch) {
+        Objects.requireNonNull(signal, "signal");
+        if (prefetch < 1) {
+            throw new IllegalArgumentException("prefetch must be positive: " + prefetch);
+        }
+        this.signal = signal;
+        this.prefetch = prefetch;
+        this.limit = prefetch - prefetch / QUARTERS;
+    }
+
+    /**
+     * Emitted with the error of the publisher or the exception of a slot.
+     */
+    public final Signal1<Throwable> failed() {
+        return failed;
+    }
+
+    /**
+     * Emitted when the publisher completed.
+     */
+    public final Signal0 completed() {
+        return completed;
+    }
+
+    /**
+     * Cancels the subscription, the signal emits no more values.
+     */
+    public final void cancel() {
+        final Subscription current = subscription.get();
+        if (current != null) {
+            current.cancel();
+        }
+    }
+
+    @Override
+    public final void onSubscribe(final Subscription newSubscription) {
+        Objects.requireNonNull(newSubscription, "subscription");
+        if (subscription.compareAndSet(null, newSubscription)) {
+            newSubscription.request(prefetch);
+        } else {
+            newSubscription.cancel();
+        }
+    }
+
+    @Override
+    public final void onNext(final T value) {
+        Objects.requireNonNull(value, "value");
+        if (terminated) {
+            return;
+        }
+
+        try {
+            signal.emit(value);
+        } catch (final RuntimeException e) {
+            // any slot may fail, rule 2.13 forbids throwing to the publisher
+            terminated = true;
+            cancel();
+            failed.emit(e);
+            return;
+        }
+        emitted++;
+        if (emitted == limit) {
+            emitted = 0;
+            subscription.get().request(limit);
+        }
+    }
+
+    @Override
+    public final void onError(final Throwable error) {
+        Objects.requireNonNull(error, "error");
+        if (!terminated) {
+            terminated = true;
+            failed.emit(error);
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        if (!terminated) {
+            terminated = true;
+            completed.emit();
+        }
+    }
+
+}
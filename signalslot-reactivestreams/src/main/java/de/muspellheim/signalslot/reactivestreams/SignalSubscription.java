@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+import de.muspellheim.signalslot.Connection;
+import de.muspellheim.signalslot.Signal1;
+import de.muspellheim.signalslot.Slot1;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The subscription of a subscriber to a signal, connected as slot to the signal.
+ * <p>Received values are buffered and passed to the subscriber as requested. Only one thread at a time drains the
+ * buffer, the work counter tells it to drain again if values or requests arrived meanwhile. So the calls of the
+ * subscriber are serialized, even if the signal emits on many threads.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SignalSubscription<T> implements Subscription, Slot1<T> {
+
+    private final Subscriber<? super T> subscriber;
+    private final OverflowStrategy overflowStrategy;
+    private final int capacity;
+    private final Deque<T> buffer = new ArrayDeque<>();
+    private final AtomicInteger work = new AtomicInteger();
+    private long requested;
+    private volatile boolean cancelled;
+    private volatile Throwable error;
+    private volatile Connection connection;
+
+    SignalSubscription(final Subscriber<? super T> subscriber, final OverflowStrategy overflowStrategy,
+                       final int capacity) {
+        this.subscriber = subscriber;
+        this.overflowStrategy = overflowStrategy;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Connects this subscription to the signal, unless it was cancelled already.
+     */
+    void connect(final Signal1<T> signal) {
+        connection = signal.connect(this);
+        if (cancelled) {
+            connection.disconnect();
+        }
+    }
+
+    @Override
+    public void receive(final T value) {
+        if (cancelled) {
+            return;
+        }
+
+        if (value == null) {
+            error = new NullPointerException("signal emitted null");
+        } else if (!offer(value)) {
+            error = new IllegalStateException("buffer overflow, subscriber requested too few values, capacity "
+                    + capacity);
+        }
+        drain();
+    }
+
+    @Override
+    public void request(final long n) {
+        if (n <= 0) {
+            error = new IllegalArgumentException("requested values must be positive: " + n);
+        } else {
+            synchronized (this) {
+                requested = Long.MAX_VALUE - requested < n ? Long.MAX_VALUE : requested + n;
+            }
+        }
+        drain();
+    }
+
+    @Override
+    public void cancel() {
+        cancelled = true;
+        final Connection current = connection;
+        if (current != null) {
+            current.disconnect();
+        }
+        synchronized (this) {
+            buffer.clear();
+            notifyAll();
+        }
+    }
+
+    /**
+     * Buffers a value according to the overflow strategy.
+     *
+     * @return <code>false</code> if the buffer overflowed
+     */
+    private synchronized boolean offer(final T value) {
+        if (overflowStrategy == OverflowStrategy.BUFFER) {
+            awaitRoom();
+        }
+        boolean accepted = true;
+        if (cancelled) {
+            buffer.clear();
+        } else if (buffer.size() < capacity) {
+            buffer.add(value);
+        } else if (overflowStrategy == OverflowStrategy.DROP_OLDEST) {
+            buffer.poll();
+            buffer.add(value);
+        } else {
+            accepted = overflowStrategy == OverflowStrategy.DROP_NEWEST;
+        }
+        return accepted;
+    }
+
+    /**
+     * Waits while the buffer is full, guarded by this. If interrupted the value overflows.
+     */
+    private void awaitRoom() {
+        try {
+            while (buffer.size() >= capacity && !cancelled) {
+                wait();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Returns the next requested value.
+     *
+     * @return the value or <code>null</code> if no value is available or requested
+     */
+    private synchronized T poll() {
+        if (requested == 0 || buffer.isEmpty() || cancelled || error != null) {
+            return null;
+        }
+
+        if (requested != Long.MAX_VALUE) {
+            requested--;
+        }
+        notifyAll();
+        return buffer.poll();
+    }
+
+    private void drain() {
+        if (work.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+        while (missed != 0) {
+            for (T value = poll(); value != null; value = poll()) {
+                subscriber.onNext(value);
+            }
+            final Throwable failure = error;
+            if (failure != null && !cancelled) {
+                cancel();
+                subscriber.onError(failure);
+            }
+            missed = work.addAndGet(-missed);
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * Bridges signals and Reactive Streams.
+ * <p>A {@link de.muspellheim.signalslot.reactivestreams.SignalPublisher} publishes the values of a signal honoring the
+ * demand of its subscribers, a {@link de.muspellheim.signalslot.reactivestreams.SignalSubscriber} emits the values of
+ * a publisher with a signal. Use <code>org.reactivestreams.FlowAdapters</code> to bridge to
+ * <code>java.util.concurrent.Flow</code> on Java 9 or newer.</p>
+ */
+package de.muspellheim.signalslot.reactivestreams;
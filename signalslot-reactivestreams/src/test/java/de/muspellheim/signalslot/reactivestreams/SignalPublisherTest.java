@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+import de.muspellheim.signalslot.Signal1;
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * A signal published as Reactive Streams publisher honors the demand of the subscriber.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalPublisherTest {
+
+    private final Signal1<Integer> signal = new Signal1<>();
+    private final RecordingSubscriber subscriber = new RecordingSubscriber();
+
+    @Test
+    public void testRequest() {
+        new SignalPublisher<>(signal, OverflowStrategy.DROP_NEWEST, 10).subscribe(subscriber);
+
+        subscriber.request(2);
+        emit(1, 2, 3, 4, 5);
+        assertEquals(Arrays.asList(1, 2), subscriber.values);
+
+        subscriber.request(2);
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.values);
+    }
+
+    @Test
+    public void testRequestUnbounded() {
+        new SignalPublisher<>(signal, OverflowStrategy.ERROR, 1).subscribe(subscriber);
+
+        subscriber.request(Long.MAX_VALUE);
+        emit(1, 2, 3);
+        subscriber.request(Long.MAX_VALUE);
+        emit(4);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4), subscriber.values);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testDropOldest() {
+        new SignalPublisher<>(signal, OverflowStrategy.DROP_OLDEST, 2).subscribe(subscriber);
+
+        emit(1, 2, 3, 4, 5);
+        subscriber.request(10);
+
+        assertEquals(Arrays.asList(4, 5), subscriber.values);
+    }
+
+    @Test
+    public void testDropNewest() {
+        new SignalPublisher<>(signal, OverflowStrategy.DROP_NEWEST, 2).subscribe(subscriber);
+
+        emit(1, 2, 3, 4, 5);
+        subscriber.request(10);
+
+        assertEquals(Arrays.asList(1, 2), subscriber.values);
+    }
+
+    @Test
+    public void testError() {
+        new SignalPublisher<>(signal, OverflowStrategy.ERROR, 2).subscribe(subscriber);
+
+        emit(1, 2, 3);
+        subscriber.request(10);
+        emit(4);
+
+        assertTrue(subscriber.values.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testBuffer() throws Exception {
+        new SignalPublisher<>(signal, OverflowStrategy.BUFFER, 1).subscribe(subscriber);
+        final Thread emitter = new Thread(() -> emit(1, 2, 3));
+
+        emitter.start();
+        emitter.join(100);
+        assertTrue("emitter blocked", emitter.isAlive());
+
+        subscriber.request(3);
+        emitter.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(emitter.isAlive());
+        assertEquals(Arrays.asList(1, 2, 3), subscriber.values);
+    }
+
+    @Test
+    public void testCancel() {
+        new SignalPublisher<>(signal, OverflowStrategy.BUFFER, 1).subscribe(subscriber);
+        subscriber.request(1);
+        emit(1);
+
+        subscriber.subscription.cancel();
+        subscriber.request(1);
+        emit(2);
+
+        assertEquals(Arrays.asList(1), subscriber.values);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testRequestNotPositive() {
+        new SignalPublisher<>(signal, OverflowStrategy.BUFFER, 1).subscribe(subscriber);
+
+        subscriber.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testNullValue() {
+        new SignalPublisher<>(signal, OverflowStrategy.BUFFER, 1).subscribe(subscriber);
+
+        signal.emit(null);
+
+        assertTrue(subscriber.error instanceof NullPointerException);
+    }
+
+    @Test
+    public void testRequestInOnNext() {
+        final Signal1<String> strings = new Signal1<>();
+        final List<String> values = new CopyOnWriteArrayList<>();
+        new SignalPublisher<>(strings, OverflowStrategy.ERROR, 1).subscribe(new RequestingSubscriber(values));
+
+        strings.emit("Foo");
+        strings.emit("Bar");
+
+        assertEquals(Arrays.asList("Foo", "Bar"), values);
+    }
+
+    private void emit(final Integer... values) {
+        for (Integer e : values) {
+            signal.emit(e);
+        }
+    }
+
+    /**
+     * Requests the next value when receiving a value.
+     */
+    private static final class RequestingSubscriber implements Subscriber<String> {
+
+        private final List<String> values;
+        private Subscription subscription;
+
+        RequestingSubscriber(final List<String> values) {
+            this.values = values;
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            subscription = s;
+            s.request(1);
+        }
+
+        @Override
+        public void onNext(final String value) {
+            values.add(value);
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            fail(t.toString());
+        }
+
+        @Override
+        public void onComplete() {
+            fail("never completes");
+        }
+
+    }
+
+    /**
+     * Records the received values and the error.
+     */
+    private static final class RecordingSubscriber implements Subscriber<Integer> {
+
+        private final List<Integer> values = new CopyOnWriteArrayList<>();
+        private volatile Subscription subscription;
+        private volatile Throwable error;
+
+        void request(final long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(final Subscription s) {
+            subscription = s;
+        }
+
+        @Override
+        public void onNext(final Integer value) {
+            values.add(value);
+        }
+
+        @Override
+        public void onError(final Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            fail("never completes");
+        }
+
+    }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot.reactivestreams;
+
+import de.muspellheim.signalslot.Signal1;
+import de.muspellheim.signalslot.Slot1;
+import org.junit.Test;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A publisher drives a signal with backpressure.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalSubscriberTest {
+
+    private final Signal1<Integer> signal = new Signal1<>();
+    private final List<Integer> received = new ArrayList<>();
+    private final List<Throwable> errors = new ArrayList<>();
+    private int completions;
+
+    @Test
+    public void testDriveSignal() {
+        final IterablePublisher publisher = new IterablePublisher(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), null);
+        final SignalSubscriber<Integer> subscriber = subscriber(4);
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), received);
+        assertEquals(1, completions);
+        assertEquals(Arrays.asList(4L, 3L, 3L, 3L), publisher.requests);
+    }
+
+    @Test
+    public void testError() {
+        final IllegalStateException error = new IllegalStateException("Foo");
+        final SignalSubscriber<Integer> subscriber = subscriber(16);
+
+        new IterablePublisher(Arrays.asList(1, 2), error).subscribe(subscriber);
+
+        assertEquals(Arrays.asList(1, 2), received);
+        assertEquals(Arrays.asList(error), errors);
+        assertEquals(0, completions);
+    }
+
+    @Test
+    public void testCancel() {
+        final IterablePublisher publisher = new IterablePublisher(Arrays.asList(1, 2, 3), null);
+        final SignalSubscriber<Integer> subscriber = subscriber(1);
+        signal.connect(v -> subscriber.cancel());
+
+        publisher.subscribe(subscriber);
+
+        assertEquals(Arrays.asList(1), received);
+        assertEquals(0, completions);
+    }
+
+    @Test
+    public void testSlotThrows() {
+        final IllegalStateException error = new IllegalStateException("Foo");
+        final IterablePublisher publisher = new IterablePublisher(Arrays.asList(1, 2, 3), null);
+        final SignalSubscriber<Integer> subscriber = subscriber(4);
+        signal.connect(new FailingSlot(2, error));
+
+        publisher.subscribe(subscriber);
+        subscriber.onNext(4);
+        subscriber.onComplete();
+
+        assertEquals(Arrays.asList(1, 2), received);
+        assertEquals(Arrays.asList(error), errors);
+        assertEquals(0, completions);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public void testSecondSubscriptionCancelled() {
+        final SignalSubscriber<Integer> subscriber = subscriber(1);
+        final IterablePublisher publisher = new IterablePublisher(Arrays.asList(1), null);
+        final IterablePublisher second = new IterablePublisher(Arrays.asList(2), null);
+
+        publisher.subscribe(subscriber);
+        second.subscribe(subscriber);
+
+        assertEquals(Arrays.asList(1), received);
+        assertTrue(second.cancelled);
+    }
+
+    @Test
+    public void testPublisherToSubscriber() {
+        final Signal1<Integer> source = new Signal1<>();
+        new SignalPublisher<>(source, OverflowStrategy.BUFFER, 8).subscribe(subscriber(4));
+
+        for (int i = 0; i < 100; i++) {
+            source.emit(i);
+        }
+
+        assertEquals(100, received.size());
+        assertEquals(Integer.valueOf(99), received.get(99));
+    }
+
+    private SignalSubscriber<Integer> subscriber(final int prefetch) {
+        final SignalSubscriber<Integer> subscriber = new SignalSubscriber<>(signal, prefetch);
+        signal.connect(received::add);
+        subscriber.failed().connect(errors::add);
+        subscriber.completed().connect(() -> completions++);
+        return subscriber;
+    }
+
+    /**
+     * Throws on a given value.
+     */
+    private static final class FailingSlot implements Slot1<Integer> {
+
+        private final int failingValue;
+        private final RuntimeException error;
+
+        FailingSlot(final int failingValue, final RuntimeException error) {
+            this.failingValue = failingValue;
+            this.error = error;
+        }
+
+        @Override
+        public void receive(final Integer value) {
+            if (value == failingValue) {
+                throw error;
+            }
+        }
+
+    }
+
+    /**
+     * Publishes the values of an iterable as requested, then completes or fails.
+     */
+    private static final class IterablePublisher implements Publisher<Integer>, Subscription {
+
+        private final List<Long> requests = new ArrayList<>();
+        private final Iterator<Integer> values;
+        private final Throwable error;
+        private Subscriber<? super Integer> subscriber;
+        private boolean cancelled;
+        private boolean emitting;
+        private long demand;
+
+        IterablePublisher(final Iterable<Integer> values, final Throwable error) {
+            this.values = values.iterator();
+            this.error = error;
+        }
+
+        @Override
+        public void subscribe(final Subscriber<? super Integer> newSubscriber) {
+            subscriber = newSubscriber;
+            newSubscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(final long n) {
+            requests.add(n);
+            demand += n;
+            if (!emitting) {
+                emitting = true;
+                emitRequested();
+                emitting = false;
+            }
+        }
+
+        private void emitRequested() {
+            while (demand > 0 && values.hasNext() && !cancelled) {
+                demand--;
+                subscriber.onNext(values.next());
+            }
+            if (!values.hasNext() && !cancelled) {
+                cancelled = true;
+                finish();
+            }
+        }
+
+        private void finish() {
+            if (error != null) {
+                subscriber.onError(error);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+    }
+
+}
@@ -0,0 +1,9 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+/**
+ * Unit Tests for the Reactive Streams bridge of Signal and Slot for Java.
+ */
+package de.muspellheim.signalslot.reactivestreams;
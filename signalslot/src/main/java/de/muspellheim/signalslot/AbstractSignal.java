@@ -0,0 +1,543 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Common base of the signals, holds the connected slots and the blocked state.
+ * <p>A signal connected as slot to another signal of the same kind is not called on emit, the slots connected to it
+ * are called directly instead. So a chain of signals is walked iteratively and does not grow the stack with each hop.
+ * The flattened slots are cached in a {@link DispatchPlan} until the connections or the blocked state change.</p>
+ * <p>The slots are stored as chosen by the {@link ReceiverStore} and walked on emit as segments, one array after
+ * another.</p>
+ * <p>A blocked signal drops, queues or coalesces the emitted values according to its {@link BlockMode} and emits the
+ * recorded values when unblocked.</p>
+ * <p>Connecting a signal to a signal, which would lead back to it, is rejected. The {@link Propagation} of the emitting
+ * signal decides, whether a signal reachable on many paths is called once or for each path.</p>
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+abstract class AbstractSignal<S> {
+
+    private static final Object CONNECT_SIGNAL_LOCK = new Object();
+
+    private final Receivers<S> receivers;
+    private final Object deferredLock = new Object();
+    private boolean blocked;
+    private BlockMode blockMode = BlockMode.DISCARD;
+    private Propagation propagation = Propagation.DEPTH_FIRST;
+    private volatile SignalMonitor monitor;
+    private List<Object> deferred;
+    private volatile long stateVersion;
+    private volatile DispatchPlan<S> plan;
+
+    AbstractSignal(final IntFunction<S[]> arrayFactory) {
+        receivers = new Receivers<>(arrayFactory);
+    }
+
+    /**
+     * Connects a slot.
+     *
+     * @param receiver the slot to connect
+     * @return the connection
+     * @throws IllegalArgumentException if the slot is a signal leading back to this signal
+     */
+    public final Connection connect(final S receiver) {
+        return connect(receiver, 0);
+    }
+
+    /**
+     * Connects a slot with a priority.
+     * <p>Slots with a higher priority are called first, slots with the same priority in order of connection. The
+     * order is decided on connect, emit still walks a flat array. The default priority is 0.</p>
+     *
+     * @param receiver the slot to connect
+     * @param priority the priority of the slot
+     * @return the connection
+     * @throws IllegalArgumentException if the slot is a signal leading back to this signal
+     */
+    public final Connection connect(final S receiver, final int priority) {
+        Objects.requireNonNull(receiver, "receiver");
+        return connectAcyclic(receiver, () -> receivers.add(receiver, receiver, priority));
+    }
+
+    /**
+     * Connects a slot held by a weak reference only.
+     * <p>The signal does not keep the slot alive. After the slot was garbage collected, its connection is removed
+     * with the next change of the connections. Keep a strong reference to the slot as long as it should receive, e.g.
+     * in a field of its owner. A lambda or method reference without any other reference is collected at once.</p>
+     *
+     * @param receiver the slot to connect
+     * @return the connection
+     * @throws IllegalArgumentException if the slot is a signal leading back to this signal
+     */
+    public final Connection connectWeak(final S receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        return connectAcyclic(receiver, () -> receivers.addWeak(receiver, this::weakSlot));
+    }
+
+    public final void disconnect(final S receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        receivers.remove(receiver);
+    }
+
+    public final boolean isBlocked() {
+        return blocked;
+    }
+
+    /**
+     * Blocks or unblocks the signal.
+     * <p>On unblock the signal emits the values recorded while blocked, see {@link #setBlockMode(BlockMode)}.</p>
+     *
+     * @param blocked <code>true</code> to block the signal
+     */
+    public final void setBlocked(final boolean blocked) {
+        final List<Object> replay;
+        synchronized (deferredLock) {
+            this.blocked = blocked;
+            replay = blocked ? null : deferred;
+            if (!blocked) {
+                deferred = null;
+            }
+            stateVersion++;
+        }
+
+        if (replay != null) {
+            for (int i = 0; i < replay.size(); i++) {
+                emitDeferred(replay.get(i));
+            }
+        }
+    }
+
+    /**
+     * Blocks the signal until the returned blocker is closed.
+     *
+     * @return the blocker restoring the previous blocked state on close
+     */
+    public final SignalBlocker block() {
+        final boolean wasBlocked = isBlocked();
+        setBlocked(true);
+        return new SignalBlocker(() -> setBlocked(wasBlocked));
+    }
+
+    public final BlockMode getBlockMode() {
+        return blockMode;
+    }
+
+    /**
+     * Sets what the signal does with values emitted while blocked.
+     *
+     * @param blockMode the new block mode, default is {@link BlockMode#DISCARD}
+     */
+    public final void setBlockMode(final BlockMode blockMode) {
+        Objects.requireNonNull(blockMode, "blockMode");
+        this.blockMode = blockMode;
+        stateChanged();
+    }
+
+    public final Propagation getPropagation() {
+        return propagation;
+    }
+
+    /**
+     * Sets how the values emitted by this signal propagate through connected signals.
+     *
+     * @param propagation the new propagation, default is {@link Propagation#DEPTH_FIRST}
+     */
+    public final void setPropagation(final Propagation propagation) {
+        Objects.requireNonNull(propagation, "propagation");
+        this.propagation = propagation;
+        plan = null;
+    }
+
+    public final SignalMonitor getMonitor() {
+        return monitor;
+    }
+
+    /**
+     * Sets the monitor observing the emits of this signal.
+     *
+     * @param monitor the monitor or <code>null</code> to remove the current one
+     */
+    public final void setMonitor(final SignalMonitor monitor) {
+        this.monitor = monitor;
+        stateChanged();
+    }
+
+    /**
+     * Records metrics of this signal and publishes them via JMX.
+     * <p>Replaces the current metrics of this signal, which are unregistered first. Another monitor is not replaced,
+     * remove it first.</p>
+     *
+     * @param name the name of the signal, unique among the signals with metrics
+     * @return the metrics
+     * @throws IllegalArgumentException if a signal with the same name has already enabled metrics
+     * @throws IllegalStateException    if another monitor than metrics observes this signal
+     * @see SignalMetrics
+     */
+    public final SignalMetrics enableMetrics(final String name) {
+        Objects.requireNonNull(name, "name");
+        final SignalMonitor current = monitor;
+        if (current != null && !(current instanceof SignalMetrics)) {
+            throw new IllegalStateException("signal is already observed by monitor " + current);
+        }
+
+        final SignalMetrics metrics = new SignalMetrics(name);
+        disableMetrics();
+        metrics.register();
+        setMonitor(metrics);
+        return metrics;
+    }
+
+    /**
+     * Stops recording metrics and unregisters them from JMX. Does nothing if metrics are not enabled.
+     */
+    public final void disableMetrics() {
+        final SignalMonitor current = monitor;
+        if (current instanceof SignalMetrics) {
+            setMonitor(null);
+            ((SignalMetrics) current).unregister();
+        }
+    }
+
+    public final ReceiverStore getReceiverStore() {
+        return receivers.getStore();
+    }
+
+    /**
+     * Sets how the signal stores its connected slots. The connected slots are kept.
+     *
+     * @param store the new store, default is {@link ReceiverStore#COPY_ON_WRITE}
+     */
+    public final void setReceiverStore(final ReceiverStore store) {
+        Objects.requireNonNull(store, "store");
+        receivers.setStore(store);
+    }
+
+    /**
+     * Connects a receiver called through the given slot.
+     */
+    final Connection addReceiver(final S receiver, final S slot) {
+        return receivers.add(receiver, slot, 0);
+    }
+
+    /**
+     * Records a value emitted while blocked according to the block mode.
+     * <p>If the signal was unblocked in the meantime, the value is emitted at once.</p>
+     *
+     * @param value the emitted value, <code>null</code> for a signal without value
+     */
+    final void defer(final Object value) {
+        final SignalMonitor currentMonitor = monitor;
+        if (blockMode == BlockMode.DISCARD) {
+            if (currentMonitor != null) {
+                currentMonitor.dropped();
+            }
+            return;
+        }
+
+        final boolean emitNow;
+        boolean replaced = false;
+        synchronized (deferredLock) {
+            emitNow = !blocked;
+            if (!emitNow) {
+                replaced = record(value);
+            }
+        }
+        if (replaced && currentMonitor != null) {
+            currentMonitor.dropped();
+        }
+        if (emitNow) {
+            emitDeferred(value);
+        }
+    }
+
+    /**
+     * Records a deferred value, guarded by the deferred lock.
+     *
+     * @return <code>true</code> if the value replaced a coalesced one
+     */
+    private boolean record(final Object value) {
+        if (deferred == null) {
+            deferred = new ArrayList<>();
+        }
+        final boolean replaced = blockMode == BlockMode.COALESCE && !deferred.isEmpty();
+        if (replaced) {
+            deferred.clear();
+        }
+        deferred.add(value);
+        return replaced;
+    }
+
+    /**
+     * Creates a slot which forwards to the referenced receiver, as long as it is not garbage collected.
+     */
+    abstract S weakSlot(Reference<S> receiver);
+
+    /**
+     * Emits a value recorded while blocked.
+     */
+    abstract void emitDeferred(Object value);
+
+    /**
+     * Invalidates the dispatch plans flattening this signal.
+     */
+    private void stateChanged() {
+        synchronized (deferredLock) {
+            stateVersion++;
+        }
+    }
+
+    /**
+     * Returns the version of the connections and the blocked state of this signal, it changes with each change of them.
+     * <p>Read it before the slots, a dispatch plan flattening this signal is valid as long as the version does not
+     * change.</p>
+     */
+    final long getVersion() {
+        return receivers.getVersion() + stateVersion;
+    }
+
+    /**
+     * Returns the slots to call on emit as segments walked one after another, read it once per emit.
+     * <p>Contains the slots of all unblocked signals reachable from this one instead of the signals itself.</p>
+     */
+    final S[][] getSegments() {
+        final S[][] ownSegments = receivers.getSegments();
+        DispatchPlan<S> current = plan;
+        if (current == null || !current.isValid(ownSegments)) {
+            current = compile(ownSegments);
+            plan = current;
+        }
+        return current.getSegments();
+    }
+
+    /**
+     * Compiles the dispatch plan, only if a signal is connected the nested signals must be replaced by their slots.
+     */
+    private DispatchPlan<S> compile(final S[][] ownSegments) {
+        final Map<Object, Long> dependencies = new IdentityHashMap<>();
+        if (!receivers.containsSignals()) {
+            return new DispatchPlan<>(ownSegments, ownSegments, dependencies);
+        }
+
+        final S[] ownSlots = receivers.concat(ownSegments);
+        final List<S> slots = propagation == Propagation.TOPOLOGICAL ? compileTopological(ownSlots, dependencies)
+                : null;
+        return new DispatchPlan<>(ownSegments, slots == null ? compileDepthFirst(ownSegments, ownSlots, dependencies)
+                : receivers.asSegments(toArray(slots, ownSlots)), dependencies);
+    }
+
+    private static <S> S[] toArray(final List<S> slots, final S[] kind) {
+        return slots.toArray(Arrays.copyOf(kind, 0));
+    }
+
+    /**
+     * Replaces nested signals by their slots, depth first to keep the order of the slots.
+     * <p>A signal already on the path is a cycle and stays a slot, it is called recursively as before. So does a
+     * blocked signal recording its values.</p>
+     */
+    private S[][] compileDepthFirst(final S[][] ownSegments, final S[] ownSlots,
+                                    final Map<Object, Long> dependencies) {
+        final List<S> slots = new ArrayList<>(ownSlots.length);
+        final Set<Object> onPath = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Hop<S>> path = new ArrayDeque<>();
+        final Class<?> kind = ownSlots.getClass();
+        onPath.add(this);
+        path.push(new Hop<>(this, ownSlots));
+        while (!path.isEmpty()) {
+            final Hop<S> hop = path.peek();
+            if (!hop.hasNext()) {
+                onPath.remove(path.pop().getSignal());
+                continue;
+            }
+
+            final S slot = hop.next();
+            final S[] nestedSlots = nestedSlotsOf(slot, kind, dependencies);
+            if (nestedSlots != null && onPath.add(slot)) {
+                path.push(new Hop<>(slot, nestedSlots));
+                continue;
+            }
+            slots.add(slot);
+        }
+
+        return dependencies.isEmpty() ? ownSegments : receivers.asSegments(toArray(slots, ownSlots));
+    }
+
+    /**
+     * Orders the nested signals topologically and concatenates their slots, each signal once.
+     *
+     * @return the slots or <code>null</code> to fall back to depth first, if the nested signals contain a cycle anyway
+     */
+    private List<S> compileTopological(final S[] ownSlots, final Map<Object, Long> dependencies) {
+        final Map<Object, S[]> nodes = new IdentityHashMap<>();
+        final Map<Object, Integer> predecessors = new IdentityHashMap<>();
+        collectNodes(ownSlots, nodes, predecessors, dependencies);
+        return nodes.size() == 1 ? null : orderTopologically(nodes, predecessors);
+    }
+
+    /**
+     * Collects this and all nested signals with their slots and counts the incoming connections of each.
+     */
+    private void collectNodes(final S[] ownSlots, final Map<Object, S[]> nodes,
+                              final Map<Object, Integer> predecessors, final Map<Object, Long> dependencies) {
+        final Class<?> kind = ownSlots.getClass();
+        final Deque<Object> pending = new ArrayDeque<>();
+        nodes.put(this, ownSlots);
+        pending.add(this);
+        while (!pending.isEmpty()) {
+            for (S e : nodes.get(pending.poll())) {
+                final S[] nestedSlots = nestedSlotsOf(e, kind, dependencies);
+                if (nestedSlots != null) {
+                    predecessors.merge(e, 1, Integer::sum);
+                    if (nodes.put(e, nestedSlots) == null) {
+                        pending.add(e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Concatenates the slots of the signals in topological order, a signal follows after all its predecessors.
+     *
+     * @return the slots or <code>null</code> if the signals contain a cycle
+     */
+    private List<S> orderTopologically(final Map<Object, S[]> nodes, final Map<Object, Integer> predecessors) {
+        final List<S> slots = new ArrayList<>();
+        final Set<Object> leafSignals = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<Object> ready = new ArrayDeque<>();
+        int visited = 0;
+        ready.add(this);
+        while (!ready.isEmpty()) {
+            visited++;
+            for (S e : nodes.get(ready.poll())) {
+                if (nodes.containsKey(e)) {
+                    if (predecessors.merge(e, -1, Integer::sum) == 0) {
+                        ready.add(e);
+                    }
+                } else if (!(e instanceof AbstractSignal) || leafSignals.add(e)) {
+                    slots.add(e);
+                }
+            }
+        }
+        return visited == nodes.size() ? slots : null;
+    }
+
+    /**
+     * Returns the slots to call instead of the given slot, if it is a signal with the given kind of slots.
+     * <p>Records the version of the signal as dependency of the plan, before reading its slots.</p>
+     *
+     * @return the slots or <code>null</code> if the slot must be called itself
+     */
+    @SuppressWarnings("unchecked")
+    private static <S> S[] nestedSlotsOf(final S slot, final Class<?> kind, final Map<Object, Long> dependencies) {
+        final boolean nested = slot instanceof AbstractSignal && ((AbstractSignal<S>) slot).hasSlotsOf(kind);
+        if (nested) {
+            dependencies.putIfAbsent(slot, ((AbstractSignal<S>) slot).getVersion());
+        }
+        return nested ? ((AbstractSignal<S>) slot).nestedSlots() : null;
+    }
+
+    /**
+     * Adds a receiver, but rejects a signal as receiver if this signal is reachable from it.
+     * <p>Connections between signals are checked and added under one lock, so two signals connected to each other at
+     * the same time can not both pass the check. Other slots are added without the lock.</p>
+     */
+    @SuppressWarnings("unchecked")
+    private Connection connectAcyclic(final S receiver, final Supplier<Connection> add) {
+        final Class<?> kind = receivers.getNoSlots().getClass();
+        if (!(receiver instanceof AbstractSignal && ((AbstractSignal<S>) receiver).hasSlotsOf(kind))) {
+            return add.get();
+        }
+
+        synchronized (CONNECT_SIGNAL_LOCK) {
+            requireAcyclic(receiver);
+            return add.get();
+        }
+    }
+
+    /**
+     * Rejects a signal as slot, if this signal is reachable from it. Weakly connected signals are followed, too.
+     */
+    @SuppressWarnings("unchecked")
+    private void requireAcyclic(final S receiver) {
+        final Class<?> kind = receivers.getNoSlots().getClass();
+        final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Deque<S> pending = new ArrayDeque<>();
+        pending.push(receiver);
+        while (!pending.isEmpty()) {
+            final S slot = pending.pop();
+            if (slot == this) {
+                throw new IllegalArgumentException("connecting the signal would create a cycle: " + receiver);
+            }
+            if (slot instanceof AbstractSignal && ((AbstractSignal<S>) slot).hasSlotsOf(kind) && visited.add(slot)) {
+                ((AbstractSignal<S>) slot).receivers.getConnectedSlots().forEach(pending::push);
+            }
+        }
+    }
+
+    private boolean hasSlotsOf(final Class<?> kind) {
+        return receivers.getNoSlots().getClass() == kind;
+    }
+
+    /**
+     * Returns the slots to call instead of this signal, when nested in another signal.
+     * <p>A blocked signal has no slots to call. A blocked signal recording its values and a monitored signal must be
+     * called itself.</p>
+     *
+     * @return the slots or <code>null</code> if this signal must be called itself
+     */
+    private S[] nestedSlots() {
+        final S[] slots = receivers.getSlots();
+        if (!blocked) {
+            return monitor == null ? slots : null;
+        }
+        return blockMode == BlockMode.DISCARD ? Arrays.copyOf(slots, 0) : null;
+    }
+
+    /**
+     * A signal on the path while compiling the dispatch plan, with the position of the next slot to visit.
+     */
+    private static final class Hop<S> {
+
+        private final Object signal;
+        private final S[] slots;
+        private int position;
+
+        Hop(final Object signal, final S[] slots) {
+            this.signal = signal;
+            this.slots = slots;
+        }
+
+        Object getSignal() {
+            return signal;
+        }
+
+        boolean hasNext() {
+            return position < slots.length;
+        }
+
+        S next() {
+            return slots[position++];
+        }
+
+    }
+
+}
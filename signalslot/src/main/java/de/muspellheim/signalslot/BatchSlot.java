@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A slot receiving a batch of data at once, e.g. to insert all values in bulk.
+ * <p>A signal passes a batch emitted with <code>emitAll</code> in one call to this slot. Single values emitted with
+ * <code>emit</code> are received as usual.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface BatchSlot<T> extends Slot1<T> {
+
+    void receiveAll(Iterable<? extends T> values);
+
+}
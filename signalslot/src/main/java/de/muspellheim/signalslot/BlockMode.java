@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * What a blocked signal does with emitted values.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public enum BlockMode {
+
+    /**
+     * Drops all values emitted while blocked, the default.
+     */
+    DISCARD,
+
+    /**
+     * Records all values emitted while blocked and emits them in order, when unblocked.
+     */
+    QUEUE,
+
+    /**
+     * Records only the last value emitted while blocked and emits it once, when unblocked. A signal without value
+     * emits one notification for any number of emits.
+     */
+    COALESCE
+
+}
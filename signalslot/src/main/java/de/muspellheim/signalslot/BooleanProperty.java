@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A <code>boolean</code> value emitting its changes.
+ * <p>Use this property instead of <code>Property&lt;Boolean&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Property
+ */
+public class BooleanProperty implements Observable, BooleanSlot {
+
+    private final Signal0 invalidated = new Signal0();
+    private final BooleanSignal valueChanged = new BooleanSignal();
+    private boolean value;
+
+    public BooleanProperty() {
+    }
+
+    public BooleanProperty(final boolean initialValue) {
+        value = initialValue;
+    }
+
+    public final boolean getValue() {
+        return value;
+    }
+
+    public final void setValue(final boolean value) {
+        if (value != this.value) {
+            this.value = value;
+            invalidated.emit();
+            valueChanged.emit(value);
+        }
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Emitted with the new value, when the value changed.
+     */
+    public final BooleanSignal valueChanged() {
+        return valueChanged;
+    }
+
+    @Override
+    public final void receive(final boolean newValue) {
+        setValue(newValue);
+    }
+
+    @Override
+    public final String toString() {
+        return "BooleanProperty[value=" + value + "]";
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+
+/**
+ * A signal act as source of <code>boolean</code> values and can connect to any compatible slot.
+ * <p>Use this signal instead of <code>Signal1&lt;Boolean&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class BooleanSignal extends AbstractSignal<BooleanSlot> implements BooleanSlot {
+
+    private static final PrimitiveEmit.Caller<BooleanSlot> CALLER = (slot, bits) -> slot.receive(bits != 0);
+
+    public BooleanSignal() {
+        super(BooleanSlot[]::new);
+    }
+
+    public final void emit(final boolean value) {
+        if (isBlocked()) {
+            defer(getBlockMode() == BlockMode.DISCARD ? null : value);
+            return;
+        }
+
+        final BooleanSlot[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            PrimitiveEmit.emitMonitored(segments, value ? 1 : 0, monitor, CALLER);
+            return;
+        }
+
+        for (BooleanSlot[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].receive(value);
+            }
+        }
+    }
+
+    @Override
+    public final void receive(final boolean value) {
+        emit(value);
+    }
+
+    @Override
+    final BooleanSlot weakSlot(final Reference<BooleanSlot> receiver) {
+        return new BooleanSlot() {
+            @Override
+            public void receive(final boolean value) {
+                final BooleanSlot slot = receiver.get();
+                if (slot != null) {
+                    slot.receive(value);
+                }
+            }
+        };
+    }
+
+    @Override
+    final void emitDeferred(final Object value) {
+        emit((Boolean) value);
+    }
+
+}
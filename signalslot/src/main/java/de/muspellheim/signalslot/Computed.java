@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A value derived from other observables.
+ * <p>The value is computed lazily: a change of a dependency only marks the value as invalid and emits
+ * {@link #invalidated()} once, further changes emit nothing until the value was read again. So a chain of computed
+ * values is invalidated incrementally and nothing is computed, until somebody reads the value. Only if a slot is
+ * connected to {@link #valueChanged()}, the value is computed on each change to emit it.</p>
+ * <p>The dependencies hold the computed value by weak connections, keep a reference to it as long as it is used. Like
+ * the signals, a computed value does not synchronize its value, change the dependencies from one thread.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class Computed<T> implements ObservableValue<T> {
+
+    private final Signal0 invalidated = new Signal0();
+    private final Signal1<T> valueChanged = new Signal1<>();
+    private final Slot0 invalidator = this::invalidate;
+    private final Supplier<? extends T> computation;
+    private boolean valid;
+    private boolean computed;
+    private T value;
+
+    /**
+     * Creates a computed value.
+     *
+     * @param computation  computes the value from the dependencies
+     * @param dependencies the observables the value is computed from
+     */
+    public Computed(final Supplier<? extends T> computation, final Observable... dependencies) {
+        Objects.requireNonNull(computation, "computation");
+        this.computation = computation;
+        for (Observable e : dependencies) {
+            e.invalidated().connectWeak(invalidator);
+        }
+    }
+
+    /**
+     * Returns the value, computes it if a dependency changed since the last read.
+     */
+    @Override
+    public final T getValue() {
+        if (!valid) {
+            value = computation.get();
+            valid = true;
+            computed = true;
+        }
+        return value;
+    }
+
+    public final boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Emitted with the new value, when the value changed. Connecting a slot makes the value computed on each change.
+     * The new value is compared with the last computed value, even if the value was invalid meanwhile.
+     */
+    @Override
+    public final Signal1<T> valueChanged() {
+        return valueChanged;
+    }
+
+    private void invalidate() {
+        final boolean wasValid = valid;
+        valid = false;
+        if (wasValid) {
+            invalidated.emit();
+        }
+        if (valueChanged.getSegments().length > 0) {
+            // the last computed value is kept while invalid, so only the first computation has no value to compare
+            final boolean hadValue = computed;
+            final T oldValue = value;
+            final T newValue = getValue();
+            if (!hadValue || !Objects.equals(oldValue, newValue)) {
+                valueChanged.emit(newValue);
+            }
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return valid ? "Computed[value=" + value + "]" : "Computed[invalid]";
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A conflated slot passes only the latest value to a receiver on an executor.
+ * <p>Like a queued slot, but instead of a queue it keeps only the latest value. Values emitted while the receiver is
+ * busy replace each other, so the receiver gets the newest value when it is ready again.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class ConflatedSlot1<T> implements Slot1<T>, Runnable {
+
+    private static final Object EMPTY = new Object();
+
+    private final AtomicReference<Object> latest = new AtomicReference<>(EMPTY);
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Slot1<T> receiver;
+    private final Executor executor;
+
+    ConflatedSlot1(final Slot1<T> receiver, final Executor executor) {
+        this.receiver = receiver;
+        this.executor = executor;
+    }
+
+    @Override
+    public void receive(final T value) {
+        latest.set(value);
+        if (pending.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void run() {
+        int missed = pending.get();
+        boolean completed = false;
+        try {
+            do {
+                final Object value = latest.getAndSet(EMPTY);
+                if (value != EMPTY) {
+                    receiver.receive((T) value);
+                }
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+            completed = true;
+        } finally {
+            if (!completed && pending.addAndGet(-missed) != 0) {
+                executor.execute(this);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A signal for state, which delivers only the latest value to slow slots.
+ * <p>A slot connected with an executor does not queue the values. If the signal emits faster than the slot receives,
+ * the slot skips the superseded values and receives only the newest one. So the pending values do not grow, when a
+ * producer outpaces a consumer, e.g. the UI. Slots connected without an executor receive every value.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class ConflatingSignal1<T> extends Signal1<T> {
+
+    public ConflatingSignal1() {
+        super(ConflatedSlot1::new);
+    }
+
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A connection between a signal and a slot, returned on connect.
+ * <p>Use the connection to disconnect the slot, without remembering the method reference or slot instance.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface Connection {
+
+    /**
+     * Disconnects the slot from the signal. Does nothing if already disconnected.
+     */
+    void disconnect();
+
+    boolean isConnected();
+
+    /**
+     * Blocks this connection, the slot receives nothing until unblocked. The other slots of the signal are not
+     * affected.
+     */
+    void block();
+
+    void unblock();
+
+    boolean isBlocked();
+
+}
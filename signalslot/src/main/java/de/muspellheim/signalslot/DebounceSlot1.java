@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A debounce passes a value to a signal after no other value was received for a delay.
+ * <p>Instead of rescheduling a timeout for every value, only one timeout is pending. When it expires, it checks the
+ * time of the latest value and waits again for the rest of the delay if necessary.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class DebounceSlot1<T> implements Slot1<T> {
+
+    private final Signal1<T> target;
+    private final long delayNanos;
+    private final TimerWheel timer;
+    private boolean scheduled;
+    private boolean cancelled;
+    private TimerWheel.Timeout timeout;
+    private long lastReceived;
+    private T latest;
+
+    DebounceSlot1(final Signal1<T> target, final long delayNanos, final TimerWheel timer) {
+        this.target = target;
+        this.delayNanos = delayNanos;
+        this.timer = timer;
+    }
+
+    @Override
+    public synchronized void receive(final T value) {
+        if (cancelled) {
+            return;
+        }
+
+        latest = value;
+        lastReceived = System.nanoTime();
+        if (!scheduled) {
+            scheduled = true;
+            timeout = timer.schedule(this::delayElapsed, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void delayElapsed() {
+        final T value;
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+
+            final long remaining = lastReceived + delayNanos - System.nanoTime();
+            if (remaining > 0) {
+                timeout = timer.schedule(this::delayElapsed, remaining, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            value = latest;
+            latest = null;
+            scheduled = false;
+        }
+        target.emit(value);
+    }
+
+    /**
+     * Drops the latest value and cancels the timer, the debounce passes no more values.
+     */
+    synchronized void cancel() {
+        cancelled = true;
+        latest = null;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A signal derived from a source signal, e.g. a throttled signal.
+ * <p>The derived signal stays connected to its source until it is closed. Close it when it is not needed anymore, so
+ * the source does not keep it and its pending values alive.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Signal1#throttle(java.time.Duration)
+ * @see Signal1#debounce(java.time.Duration)
+ */
+public class DerivedSignal1<T> extends Signal1<T> implements AutoCloseable {
+
+    private Connection sourceConnection;
+    private Runnable cancel;
+
+    DerivedSignal1() {
+        // created by the source signal
+    }
+
+    final void attach(final Connection connection, final Runnable cancelPending) {
+        sourceConnection = connection;
+        cancel = cancelPending;
+    }
+
+    /**
+     * Returns the connection to the source signal, e.g. to block the derived signal for a while.
+     */
+    public final Connection getSourceConnection() {
+        return sourceConnection;
+    }
+
+    /**
+     * Disconnects from the source signal and drops the pending values. Does nothing if already closed.
+     */
+    @Override
+    public final void close() {
+        sourceConnection.disconnect();
+        cancel.run();
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Map;
+
+/**
+ * The flattened slots a signal calls on emit.
+ * <p>A signal connected to another signal of the same kind is replaced by the slots it would call itself, so emitting
+ * through a chain of signals walks one array instead of recursing hop by hop. A plan without nested signals simply uses
+ * the segments of the own slots of the signal.</p>
+ * <p>A plan stays valid as long as the own slots of the signal do not change. A plan with nested signals depends on the
+ * connections and the blocked state of them, too. So it records the version of each nested signal it flattened and is
+ * only valid until one of them changes. Changes of other signals do not affect it. Changes of the connections are rare
+ * compared to emits, so the plan is simply compiled again.</p>
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class DispatchPlan<S> {
+
+    private final S[][] source;
+    private final S[][] segments;
+    private final Object[] nestedSignals;
+    private final long[] versions;
+
+    /**
+     * Creates a plan.
+     *
+     * @param source       the own segments of the signal
+     * @param segments     the flattened segments
+     * @param dependencies the nested signals flattened into the plan with their versions read before their slots
+     */
+    DispatchPlan(final S[][] source, final S[][] segments, final Map<Object, Long> dependencies) {
+        this.source = source;
+        this.segments = segments;
+        nestedSignals = new Object[dependencies.size()];
+        versions = new long[dependencies.size()];
+        int index = 0;
+        for (Map.Entry<Object, Long> e : dependencies.entrySet()) {
+            nestedSignals[index] = e.getKey();
+            versions[index] = e.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * Tests if this plan was compiled from the given own segments of the signal and the nested signals did not change
+     * since.
+     */
+    boolean isValid(final S[][] ownSegments) {
+        if (source != ownSegments) {
+            return false;
+        }
+
+        boolean valid = true;
+        for (int i = 0; i < nestedSignals.length && valid; i++) {
+            valid = ((AbstractSignal<?>) nestedSignals[i]).getVersion() == versions[i];
+        }
+        return valid;
+    }
+
+    /**
+     * Returns the slots to call on emit, as segments walked one after another.
+     * <p>The returned arrays must not be modified.</p>
+     */
+    S[][] getSegments() {
+        return segments;
+    }
+
+}
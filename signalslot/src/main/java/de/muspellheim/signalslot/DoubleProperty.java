@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A <code>double</code> value emitting its changes.
+ * <p>Use this property instead of <code>Property&lt;Double&gt;</code> to avoid boxing.</p>
+ * <p>Values are compared like {@link Double#compare(double, double)}, so setting <code>NaN</code> again emits
+ * nothing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Property
+ */
+public class DoubleProperty implements Observable, DoubleSlot {
+
+    private final Signal0 invalidated = new Signal0();
+    private final DoubleSignal valueChanged = new DoubleSignal();
+    private double value;
+
+    public DoubleProperty() {
+    }
+
+    public DoubleProperty(final double initialValue) {
+        value = initialValue;
+    }
+
+    public final double getValue() {
+        return value;
+    }
+
+    public final void setValue(final double value) {
+        if (Double.compare(value, this.value) != 0) {
+            this.value = value;
+            invalidated.emit();
+            valueChanged.emit(value);
+        }
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Emitted with the new value, when the value changed.
+     */
+    public final DoubleSignal valueChanged() {
+        return valueChanged;
+    }
+
+    @Override
+    public final void receive(final double newValue) {
+        setValue(newValue);
+    }
+
+    @Override
+    public final String toString() {
+        return "DoubleProperty[value=" + value + "]";
+    }
+
+}
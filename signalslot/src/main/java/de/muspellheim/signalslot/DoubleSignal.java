@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+
+/**
+ * A signal act as source of <code>double</code> values and can connect to any compatible slot.
+ * <p>Use this signal instead of <code>Signal1&lt;Double&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class DoubleSignal extends AbstractSignal<DoubleSlot> implements DoubleSlot {
+
+    private static final PrimitiveEmit.Caller<DoubleSlot> CALLER =
+            (slot, bits) -> slot.receive(Double.longBitsToDouble(bits));
+
+    public DoubleSignal() {
+        super(DoubleSlot[]::new);
+    }
+
+    public final void emit(final double value) {
+        if (isBlocked()) {
+            defer(getBlockMode() == BlockMode.DISCARD ? null : value);
+            return;
+        }
+
+        final DoubleSlot[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            PrimitiveEmit.emitMonitored(segments, Double.doubleToRawLongBits(value), monitor, CALLER);
+            return;
+        }
+
+        for (DoubleSlot[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].receive(value);
+            }
+        }
+    }
+
+    @Override
+    public final void receive(final double value) {
+        emit(value);
+    }
+
+    @Override
+    final DoubleSlot weakSlot(final Reference<DoubleSlot> receiver) {
+        return new DoubleSlot() {
+            @Override
+            public void receive(final double value) {
+                final DoubleSlot slot = receiver.get();
+                if (slot != null) {
+                    slot.receive(value);
+                }
+            }
+        };
+    }
+
+    @Override
+    final void emitDeferred(final Object value) {
+        emit((Double) value);
+    }
+
+}
@@ -0,0 +1,19 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A slot act as receiver of <code>double</code> values.
+ * <p>Use this slot instead of <code>Slot1&lt;Double&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+@FunctionalInterface
+public interface DoubleSlot {
+
+    void receive(double value);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A <code>int</code> value emitting its changes.
+ * <p>Use this property instead of <code>Property&lt;Integer&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Property
+ */
+public class IntProperty implements Observable, IntSlot {
+
+    private final Signal0 invalidated = new Signal0();
+    private final IntSignal valueChanged = new IntSignal();
+    private int value;
+
+    public IntProperty() {
+    }
+
+    public IntProperty(final int initialValue) {
+        value = initialValue;
+    }
+
+    public final int getValue() {
+        return value;
+    }
+
+    public final void setValue(final int value) {
+        if (value != this.value) {
+            this.value = value;
+            invalidated.emit();
+            valueChanged.emit(value);
+        }
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Emitted with the new value, when the value changed.
+     */
+    public final IntSignal valueChanged() {
+        return valueChanged;
+    }
+
+    @Override
+    public final void receive(final int newValue) {
+        setValue(newValue);
+    }
+
+    @Override
+    public final String toString() {
+        return "IntProperty[value=" + value + "]";
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+
+/**
+ * A signal act as source of <code>int</code> values and can connect to any compatible slot.
+ * <p>Use this signal instead of <code>Signal1&lt;Integer&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class IntSignal extends AbstractSignal<IntSlot> implements IntSlot {
+
+    private static final PrimitiveEmit.Caller<IntSlot> CALLER = (slot, bits) -> slot.receive((int) bits);
+
+    public IntSignal() {
+        super(IntSlot[]::new);
+    }
+
+    public final void emit(final int value) {
+        if (isBlocked()) {
+            defer(getBlockMode() == BlockMode.DISCARD ? null : value);
+            return;
+        }
+
+        final IntSlot[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            PrimitiveEmit.emitMonitored(segments, value, monitor, CALLER);
+            return;
+        }
+
+        for (IntSlot[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].receive(value);
+            }
+        }
+    }
+
+    @Override
+    public final void receive(final int value) {
+        emit(value);
+    }
+
+    @Override
+    final IntSlot weakSlot(final Reference<IntSlot> receiver) {
+        return new IntSlot() {
+            @Override
+            public void receive(final int value) {
+                final IntSlot slot = receiver.get();
+                if (slot != null) {
+                    slot.receive(value);
+                }
+            }
+        };
+    }
+
+    @Override
+    final void emitDeferred(final Object value) {
+        emit((Integer) value);
+    }
+
+}
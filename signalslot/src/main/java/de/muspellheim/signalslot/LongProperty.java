@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A <code>long</code> value emitting its changes.
+ * <p>Use this property instead of <code>Property&lt;Long&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Property
+ */
+public class LongProperty implements Observable, LongSlot {
+
+    private final Signal0 invalidated = new Signal0();
+    private final LongSignal valueChanged = new LongSignal();
+    private long value;
+
+    public LongProperty() {
+    }
+
+    public LongProperty(final long initialValue) {
+        value = initialValue;
+    }
+
+    public final long getValue() {
+        return value;
+    }
+
+    public final void setValue(final long value) {
+        if (value != this.value) {
+            this.value = value;
+            invalidated.emit();
+            valueChanged.emit(value);
+        }
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    /**
+     * Emitted with the new value, when the value changed.
+     */
+    public final LongSignal valueChanged() {
+        return valueChanged;
+    }
+
+    @Override
+    public final void receive(final long newValue) {
+        setValue(newValue);
+    }
+
+    @Override
+    public final String toString() {
+        return "LongProperty[value=" + value + "]";
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+
+/**
+ * A signal act as source of <code>long</code> values and can connect to any compatible slot.
+ * <p>Use this signal instead of <code>Signal1&lt;Long&gt;</code> to avoid boxing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class LongSignal extends AbstractSignal<LongSlot> implements LongSlot {
+
+    private static final PrimitiveEmit.Caller<LongSlot> CALLER = (slot, bits) -> slot.receive(bits);
+
+    public LongSignal() {
+        super(LongSlot[]::new);
+    }
+
+    public final void emit(final long value) {
+        if (isBlocked()) {
+            defer(getBlockMode() == BlockMode.DISCARD ? null : value);
+            return;
+        }
+
+        final LongSlot[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            PrimitiveEmit.emitMonitored(segments, value, monitor, CALLER);
+            return;
+        }
+
+        for (LongSlot[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].receive(value);
+            }
+        }
+    }
+
+    @Override
+    public final void receive(final long value) {
+        emit(value);
+    }
+
+    @Override
+    final LongSlot weakSlot(final Reference<LongSlot> receiver) {
+        return new LongSlot() {
+            @Override
+            public void receive(final long value) {
+                final LongSlot slot = receiver.get();
+                if (slot != null) {
+                    slot.receive(value);
+                }
+            }
+        };
+    }
+
+    @Override
+    final void emitDeferred(final Object value) {
+        emit((Long) value);
+    }
+
+}
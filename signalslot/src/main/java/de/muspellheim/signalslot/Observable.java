@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * Anything notifying about changes of its state.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface Observable {
+
+    /**
+     * Emitted when the state changed, without computing the new state.
+     */
+    Signal0 invalidated();
+
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A value notifying about its changes.
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface ObservableValue<T> extends Observable {
+
+    T getValue();
+
+    /**
+     * Emitted with the new value, when the value changed.
+     */
+    Signal1<T> valueChanged();
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Calls the slots of a signal in parallel on a fork join pool, if the fan-out reaches a threshold.
+ * <p>The slots are split into about {@value #TASKS_PER_THREAD} tasks per thread of the pool. Each slot is called,
+ * even if other slots throw. The emitting thread waits until all slots are finished and throws the first exception
+ * of a slot with the exceptions of the other slots as suppressed.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class ParallelEmit<T> {
+
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    ParallelEmit(final ForkJoinPool pool, final int threshold) {
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Tests if the fan-out of the segments reaches the threshold.
+     */
+    boolean accepts(final Slot1<T>[][] segments) {
+        int fanOut = 0;
+        for (int i = 0; i < segments.length && fanOut < threshold; i++) {
+            fanOut += segments[i].length;
+        }
+        return fanOut >= threshold;
+    }
+
+    /**
+     * Calls all slots in parallel and waits for them.
+     *
+     * @throws RuntimeException the first exception thrown by a slot
+     */
+    void emit(final Slot1<T>[][] segments, final T value) {
+        int fanOut = 0;
+        for (Slot1<T>[] e : segments) {
+            fanOut += e.length;
+        }
+        final int batchSize = Math.max(1, fanOut / (pool.getParallelism() * TASKS_PER_THREAD));
+        final Queue<RuntimeException> exceptions = new ConcurrentLinkedQueue<>();
+        final List<EmitTask<T>> tasks = new ArrayList<>(segments.length);
+        for (Slot1<T>[] e : segments) {
+            tasks.add(new EmitTask<>(e, 0, e.length, value, batchSize, exceptions));
+        }
+        final ForkJoinTask<?> root = ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks));
+        if (ForkJoinTask.getPool() == pool) {
+            root.invoke();
+        } else {
+            pool.invoke(root);
+        }
+        rethrow(exceptions);
+    }
+
+    private static void rethrow(final Queue<RuntimeException> exceptions) {
+        final RuntimeException first = exceptions.poll();
+        if (first != null) {
+            for (RuntimeException e = exceptions.poll(); e != null; e = exceptions.poll()) {
+                first.addSuppressed(e);
+            }
+            throw first;
+        }
+    }
+
+    /**
+     * Calls a range of slots, splits it in halves until it fits into one batch.
+     */
+    private static final class EmitTask<T> extends RecursiveAction {
+
+        private final Slot1<T>[] slots;
+        private final int from;
+        private final int to;
+        private final T value;
+        private final int batchSize;
+        private final Queue<RuntimeException> exceptions;
+
+        EmitTask(final Slot1<T>[] slots, final int from, final int to, final T value, final int batchSize,
+                 final Queue<RuntimeException> exceptions) {
+            this.slots = slots;
+            this.from = from;
+            this.to = to;
+            this.value = value;
+            this.batchSize = batchSize;
+            this.exceptions = exceptions;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= batchSize) {
+                for (int i = from; i < to; i++) {
+                    receive(slots[i]);
+                }
+            } else {
+                final int middle = (from + to) >>> 1;
+                invokeAll(new EmitTask<>(slots, from, middle, value, batchSize, exceptions),
+                        new EmitTask<>(slots, middle, to, value, batchSize, exceptions));
+            }
+        }
+
+        private void receive(final Slot1<T> slot) {
+            try {
+                slot.receive(value);
+            } catch (final RuntimeException e) {
+                // any slot may fail, the other slots are called anyway
+                exceptions.add(e);
+            }
+        }
+
+    }
+
+}
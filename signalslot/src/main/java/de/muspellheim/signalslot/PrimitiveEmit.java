@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * The monitored emit shared by the signals of primitive values.
+ * <p>The value is passed as the bits of a <code>long</code> and converted back by a caller of the slot type, which
+ * captures nothing, so the monitored emit neither boxes nor allocates.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class PrimitiveEmit {
+
+    private PrimitiveEmit() {
+        // utility class
+    }
+
+    /**
+     * Calls the slots and reports each call and the emit to the monitor.
+     *
+     * @param segments the slots to call
+     * @param bits     the value as the bits of a <code>long</code>
+     * @param monitor  the monitor
+     * @param caller   calls a slot with the value converted from the bits
+     * @param <S>      slot type
+     */
+    static <S> void emitMonitored(final S[][] segments, final long bits, final SignalMonitor monitor,
+                                  final Caller<S> caller) {
+        monitor.emitting();
+        long slotsNanos = 0;
+        int fanOut = 0;
+        for (S[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                monitor.slotCalling(slots[i]);
+                final long start = System.nanoTime();
+                caller.call(slots[i], bits);
+                final long duration = System.nanoTime() - start;
+                monitor.slotCalled(slots[i], duration);
+                slotsNanos += duration;
+            }
+            fanOut += slots.length;
+        }
+        monitor.emitted(fanOut, slotsNanos);
+    }
+
+    /**
+     * Calls a slot of primitive values.
+     *
+     * @param <S> slot type
+     */
+    @FunctionalInterface
+    interface Caller<S> {
+
+        void call(S slot, long bits);
+
+    }
+
+}
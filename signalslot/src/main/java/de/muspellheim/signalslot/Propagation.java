@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * How an emitted value propagates through signals connected to signals.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public enum Propagation {
+
+    /**
+     * Calls the slots depth first in order of connection, the default. A signal reachable on two paths emits twice.
+     */
+    DEPTH_FIRST,
+
+    /**
+     * Calls the slots of each reachable signal exactly once per emit, in topological order of the signals. So a
+     * signal receives the value only after all signals leading to it, and a signal reachable on two paths, like the
+     * bottom of a diamond, emits once.
+     */
+    TOPOLOGICAL
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Objects;
+
+/**
+ * A value emitting its changes.
+ * <p>Setting a value equal to the current one emits nothing. A property is also a slot, so a signal can connect to
+ * it and set its value. Like the signals, a property does not synchronize its value, set it from one thread.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class Property<T> implements ObservableValue<T>, Slot1<T> {
+
+    private final Signal0 invalidated = new Signal0();
+    private final Signal1<T> valueChanged = new Signal1<>();
+    private T value;
+
+    public Property() {
+        this(null);
+    }
+
+    public Property(final T initialValue) {
+        value = initialValue;
+    }
+
+    @Override
+    public final T getValue() {
+        return value;
+    }
+
+    public final void setValue(final T value) {
+        if (Objects.equals(value, this.value)) {
+            return;
+        }
+
+        this.value = value;
+        invalidated.emit();
+        valueChanged.emit(value);
+    }
+
+    @Override
+    public final Signal0 invalidated() {
+        return invalidated;
+    }
+
+    @Override
+    public final Signal1<T> valueChanged() {
+        return valueChanged;
+    }
+
+    @Override
+    public final void receive(final T newValue) {
+        setValue(newValue);
+    }
+
+    @Override
+    public final String toString() {
+        return "Property[value=" + value + "]";
+    }
+
+}
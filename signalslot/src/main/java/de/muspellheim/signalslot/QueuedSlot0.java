@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A queued slot passes the event to a receiver on an executor.
+ * <p>The emitting thread returns immediately. The receiver gets the events one after another, even if the executor
+ * uses many threads.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class QueuedSlot0 implements Slot0, Runnable {
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Slot0 receiver;
+    private final Executor executor;
+
+    QueuedSlot0(final Slot0 receiver, final Executor executor) {
+        this.receiver = receiver;
+        this.executor = executor;
+    }
+
+    @Override
+    public void receive() {
+        if (pending.getAndIncrement() == 0) {
+            submit();
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean completed = false;
+        try {
+            do {
+                receiver.receive();
+            } while (pending.decrementAndGet() > 0);
+            completed = true;
+        } finally {
+            if (!completed && pending.decrementAndGet() > 0) {
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Submits this slot to the executor. If the executor rejects it, the pending events are dropped and the exception
+     * is rethrown, so the connection does not stall.
+     */
+    private void submit() {
+        try {
+            executor.execute(this);
+        } catch (final RejectedExecutionException e) {
+            // drop the events of the rejected run, so the next event submits a new run
+            pending.set(0);
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A queued slot passes the data to a receiver on an executor.
+ * <p>The emitting thread returns immediately. The receiver gets the values one after another in order of emission,
+ * even if the executor uses many threads.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class QueuedSlot1<T> implements Slot1<T>, Runnable {
+
+    private static final Object NULL = new Object();
+
+    private final Queue<Object> values = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Slot1<T> receiver;
+    private final Executor executor;
+
+    QueuedSlot1(final Slot1<T> receiver, final Executor executor) {
+        this.receiver = receiver;
+        this.executor = executor;
+    }
+
+    @Override
+    public void receive(final T value) {
+        values.offer(value != null ? value : NULL);
+        if (pending.getAndIncrement() == 0) {
+            submit();
+        }
+    }
+
+    @Override
+    public void run() {
+        boolean completed = false;
+        try {
+            do {
+                receiver.receive(unwrap(values.poll()));
+            } while (pending.decrementAndGet() > 0);
+            completed = true;
+        } finally {
+            if (!completed && pending.decrementAndGet() > 0) {
+                submit();
+            }
+        }
+    }
+
+    /**
+     * Submits this slot to the executor. If the executor rejects it, the pending values are dropped and the exception
+     * is rethrown, so the connection does not stall.
+     */
+    private void submit() {
+        try {
+            executor.execute(this);
+        } catch (final RejectedExecutionException e) {
+            // drop the values of the rejected run, so the next value submits a new run
+            for (int i = pending.getAndSet(0); i > 0; i--) {
+                values.poll();
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T unwrap(final Object value) {
+        return value != NULL ? (T) value : null;
+    }
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A chunk of the receivers of a signal, ordered by priority.
+ * <p>The connections are guarded by the receivers. The slots of the unblocked connections are published as array,
+ * which is copied on each change of this chunk only.</p>
+ * <p>Each connection knows its position in the chunk, so removing it only clears this position. The gaps are closed
+ * with the next publish, which walks all connections anyway, so the order by priority is kept.</p>
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class ReceiverChunk<S> {
+
+    private final List<SlotConnection<S>> connections = new ArrayList<>();
+    private int removed;
+    private S[] slots;
+
+    ReceiverChunk(final S[] noSlots) {
+        slots = noSlots;
+    }
+
+    /**
+     * Returns the slots of the unblocked connections as published last.
+     */
+    S[] getSlots() {
+        return slots;
+    }
+
+    List<SlotConnection<S>> getConnections() {
+        compact();
+        return connections;
+    }
+
+    int size() {
+        return connections.size() - removed;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    int getFirstPriority() {
+        compact();
+        return connections.get(0).getPriority();
+    }
+
+    /**
+     * Returns the position after all connections with the same or a higher priority.
+     */
+    int insertionIndex(final int priority) {
+        compact();
+        int index = connections.size();
+        while (index > 0 && connections.get(index - 1).getPriority() < priority) {
+            index--;
+        }
+        return index;
+    }
+
+    void add(final int index, final SlotConnection<S> connection) {
+        compact();
+        connections.add(index, connection);
+        connection.setChunk(this);
+        for (int i = index; i < connections.size(); i++) {
+            connections.get(i).setIndex(i);
+        }
+    }
+
+    /**
+     * Clears the position of the connection, without searching or shifting the other connections.
+     */
+    void remove(final SlotConnection<S> connection) {
+        connections.set(connection.getIndex(), null);
+        removed++;
+        connection.setChunk(null);
+    }
+
+    /**
+     * Moves the connections from the given position on into a new chunk.
+     *
+     * @return the new chunk
+     */
+    ReceiverChunk<S> split(final int index) {
+        compact();
+        final ReceiverChunk<S> tail = new ReceiverChunk<>(Arrays.copyOf(slots, 0));
+        final List<SlotConnection<S>> moved = connections.subList(index, connections.size());
+        for (SlotConnection<S> e : moved) {
+            tail.add(tail.size(), e);
+        }
+        moved.clear();
+        return tail;
+    }
+
+    /**
+     * Moves all connections of the other chunk behind the connections of this chunk.
+     */
+    void append(final ReceiverChunk<S> other) {
+        for (SlotConnection<S> e : other.getConnections()) {
+            add(size(), e);
+        }
+        other.connections.clear();
+    }
+
+    /**
+     * Publishes the slots of the unblocked connections and closes the gaps of removed connections.
+     */
+    void publish() {
+        compact();
+        final List<S> unblocked = new ArrayList<>(connections.size());
+        for (SlotConnection<S> e : connections) {
+            if (!e.isBlocked()) {
+                unblocked.add(e.getSlot());
+            }
+        }
+        slots = unblocked.toArray(Arrays.copyOf(slots, unblocked.size()));
+    }
+
+    /**
+     * Closes the gaps of removed connections in one pass, keeping the order of the remaining connections.
+     */
+    private void compact() {
+        if (removed == 0) {
+            return;
+        }
+
+        int size = 0;
+        for (int i = 0; i < connections.size(); i++) {
+            final SlotConnection<S> e = connections.get(i);
+            if (e != null) {
+                e.setIndex(size);
+                connections.set(size++, e);
+            }
+        }
+        connections.subList(size, connections.size()).clear();
+        removed = 0;
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * How a signal stores its connected slots.
+ * <p>Both stores let the emitting thread walk the slots without a lock and without allocating anything. They differ in
+ * the cost of connecting, disconnecting and blocking a slot.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see Signal1#setReceiverStore(ReceiverStore)
+ */
+public enum ReceiverStore {
+
+    /**
+     * Stores all slots in one array, which is copied on each change, the default. Emitting walks one array, but each
+     * change costs time and garbage in proportion to the number of slots.
+     */
+    COPY_ON_WRITE,
+
+    /**
+     * Stores the slots in chunks of a few hundred slots, each copied on write. A change copies only the affected
+     * chunk and the short list of chunks, so it costs nearly the same for ten or hundred thousands of slots. Emitting
+     * walks the chunks one after another. Use it for signals with a very large fan-out or many connects and
+     * disconnects.
+     */
+    CHUNKED
+
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * The receivers of a signal, stored in chunks of copy on write arrays.
+ * <p>Connecting and disconnecting a slot publishes a new array of the slots of the affected chunk and a new array of
+ * all chunks, the segments. Emitting reads the current segments once and walks them by index, so the emitting thread
+ * does not need a lock and does not allocate anything. Blocked connections are left out of the arrays.</p>
+ * <p>With the {@link ReceiverStore#COPY_ON_WRITE} store all connections are kept in one chunk. With the
+ * {@link ReceiverStore#CHUNKED} store a full chunk is split, so a change copies at most {@value #CHUNK_CAPACITY}
+ * slots and the array of chunks. Empty chunks are dropped, and neighbouring chunks filled together at most half are
+ * merged, so the number of chunks does not grow under churn.</p>
+ * <p>Each connection knows its chunk and its position in the chunk, so removing a connection does not search.</p>
+ * <p>The connections are ordered by priority when added, so emitting calls the slots with higher priority first
+ * without sorting. Slots with the same priority are called in order of connection.</p>
+ * <p>Connections to weakly referenced receivers are purged in a batch with the next change of the connections, after
+ * their receivers were garbage collected. Emitting does not check for them.</p>
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class Receivers<S> {
+
+    /**
+     * The maximal number of connections in a chunk of the chunked store.
+     */
+    static final int CHUNK_CAPACITY = 256;
+
+    private final List<ReceiverChunk<S>> chunks = new ArrayList<>();
+    private final S[] noSlots;
+    private ReceiverStore store = ReceiverStore.COPY_ON_WRITE;
+    private int chunkCapacity = Integer.MAX_VALUE;
+    private int signalCount;
+    private ReferenceQueue<Object> staleReceivers;
+    private volatile boolean containsSignals;
+    private volatile S[][] segments;
+    private volatile long version;
+
+    Receivers(final IntFunction<S[]> arrayFactory) {
+        noSlots = arrayFactory.apply(0);
+        segments = newSegments(0);
+    }
+
+    /**
+     * Returns the slots to call on emit, as segments walked one after another.
+     * <p>The returned arrays must not be modified. No segment is empty.</p>
+     */
+    S[][] getSegments() {
+        return segments;
+    }
+
+    /**
+     * Returns the slots to call on emit in one array.
+     * <p>The returned array must not be modified.</p>
+     */
+    S[] getSlots() {
+        return concat(segments);
+    }
+
+    /**
+     * Returns the version of the connections, it changes whenever the segments are published.
+     */
+    long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns an empty array of slots, its class tells the kind of slots.
+     */
+    S[] getNoSlots() {
+        return noSlots;
+    }
+
+    /**
+     * Tests if any connected slot is a signal. Read it after the segments.
+     */
+    boolean containsSignals() {
+        return containsSignals;
+    }
+
+    /**
+     * Concatenates segments to one array of slots.
+     */
+    S[] concat(final S[][] slotSegments) {
+        if (slotSegments.length == 1) {
+            return slotSegments[0];
+        }
+
+        int length = 0;
+        for (S[] e : slotSegments) {
+            length += e.length;
+        }
+        final S[] result = Arrays.copyOf(noSlots, length);
+        int position = 0;
+        for (S[] e : slotSegments) {
+            System.arraycopy(e, 0, result, position, e.length);
+            position += e.length;
+        }
+        return result;
+    }
+
+    /**
+     * Wraps an array of slots as segments.
+     */
+    S[][] asSegments(final S[] slots) {
+        final S[][] result = newSegments(slots.length == 0 ? 0 : 1);
+        if (slots.length > 0) {
+            result[0] = slots;
+        }
+        return result;
+    }
+
+    synchronized ReceiverStore getStore() {
+        return store;
+    }
+
+    /**
+     * Changes the store and rearranges the connections into chunks of the new store.
+     */
+    synchronized void setStore(final ReceiverStore newStore) {
+        purge();
+        store = newStore;
+        chunkCapacity = newStore == ReceiverStore.CHUNKED ? CHUNK_CAPACITY : Integer.MAX_VALUE;
+        final List<SlotConnection<S>> connections = new ArrayList<>();
+        for (ReceiverChunk<S> e : chunks) {
+            connections.addAll(e.getConnections());
+        }
+        chunks.clear();
+        for (SlotConnection<S> e : connections) {
+            if (chunks.isEmpty() || chunks.get(chunks.size() - 1).size() >= chunkCapacity) {
+                chunks.add(new ReceiverChunk<>(noSlots));
+            }
+            final ReceiverChunk<S> last = chunks.get(chunks.size() - 1);
+            last.add(last.size(), e);
+        }
+        for (ReceiverChunk<S> e : chunks) {
+            e.publish();
+        }
+        publishSegments();
+    }
+
+    /**
+     * Returns the slots of all connections, including the blocked ones. A weakly referenced receiver is returned
+     * instead of the slot forwarding to it, unless it was garbage collected.
+     */
+    synchronized List<S> getConnectedSlots() {
+        final List<S> result = new ArrayList<>();
+        for (ReceiverChunk<S> chunk : chunks) {
+            for (SlotConnection<S> e : chunk.getConnections()) {
+                final S slot = e.isWeak() ? e.getReceiver() : e.getSlot();
+                if (slot != null) {
+                    result.add(slot);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds a receiver.
+     *
+     * @param receiver the connected receiver, used to disconnect it
+     * @param slot     the slot to call on emit, the receiver itself or a slot forwarding to it
+     * @param priority the priority of the slot
+     * @return the new connection
+     */
+    synchronized SlotConnection<S> add(final S receiver, final S slot, final int priority) {
+        purge();
+        final SlotConnection<S> connection = new SlotConnection<>(this, receiver, slot, priority);
+        insert(connection);
+        return connection;
+    }
+
+    /**
+     * Adds a weakly referenced receiver.
+     *
+     * @param receiver  the connected receiver, used to disconnect it
+     * @param forwarder creates the slot to call on emit, which forwards to the referenced receiver if it is still
+     *                  alive
+     * @return the new connection
+     */
+    synchronized SlotConnection<S> addWeak(final S receiver, final Function<Reference<S>, S> forwarder) {
+        purge();
+        if (staleReceivers == null) {
+            staleReceivers = new ReferenceQueue<>();
+        }
+        final WeakReceiver<S> weakReceiver = new WeakReceiver<>(receiver, staleReceivers);
+        final SlotConnection<S> connection = new SlotConnection<>(this, weakReceiver, forwarder.apply(weakReceiver), 0);
+        weakReceiver.setConnection(connection);
+        insert(connection);
+        return connection;
+    }
+
+    /**
+     * Removes the first receiver equal to the given one.
+     */
+    synchronized void remove(final S receiver) {
+        purge();
+        for (ReceiverChunk<S> chunk : chunks) {
+            for (SlotConnection<S> e : chunk.getConnections()) {
+                if (receiver.equals(e.getReceiver())) {
+                    remove(e);
+                    return;
+                }
+            }
+        }
+    }
+
+    synchronized void remove(final SlotConnection<S> connection) {
+        purge();
+        if (connection.getChunk() == null) {
+            return;
+        }
+
+        detach(connection).publish();
+        publishSegments();
+    }
+
+    synchronized void setBlocked(final SlotConnection<S> connection, final boolean blocked) {
+        purge();
+        if (connection.isBlocked() == blocked) {
+            return;
+        }
+
+        connection.setBlocked(blocked);
+        if (connection.getChunk() != null) {
+            connection.getChunk().publish();
+            publishSegments();
+        }
+    }
+
+    /**
+     * Inserts the connection after all connections with the same or a higher priority, splits a full chunk.
+     */
+    private void insert(final SlotConnection<S> connection) {
+        final int priority = connection.getPriority();
+        ReceiverChunk<S> chunk = chunkFor(priority);
+        final int index = chunk.insertionIndex(priority);
+        if (chunk.size() < chunkCapacity) {
+            chunk.add(index, connection);
+        } else {
+            final ReceiverChunk<S> tail = index == 0 ? new ReceiverChunk<>(noSlots) : chunk.split(index);
+            chunk.publish();
+            chunks.add(chunks.indexOf(chunk) + (index == 0 ? 0 : 1), tail);
+            tail.add(0, connection);
+            chunk = tail;
+        }
+        if (connection.getSlot() instanceof AbstractSignal) {
+            signalCount++;
+        }
+        chunk.publish();
+        publishSegments();
+    }
+
+    /**
+     * Returns the chunk to insert a connection with the given priority, the last chunk starting with the same or a
+     * higher priority.
+     */
+    private ReceiverChunk<S> chunkFor(final int priority) {
+        if (chunks.isEmpty()) {
+            chunks.add(new ReceiverChunk<>(noSlots));
+        }
+        int index = chunks.size() - 1;
+        while (index > 0 && chunks.get(index).getFirstPriority() < priority) {
+            index--;
+        }
+        return chunks.get(index);
+    }
+
+    /**
+     * Removes the connection from its chunk and drops the chunk, if it is empty now, or merges it with a neighbour, if
+     * both together fill at most half a chunk. So a merged chunk takes half a chunk of connections before it is split
+     * again.
+     *
+     * @return the changed chunk to publish
+     */
+    private ReceiverChunk<S> detach(final SlotConnection<S> connection) {
+        final ReceiverChunk<S> chunk = connection.getChunk();
+        chunk.remove(connection);
+        if (connection.getSlot() instanceof AbstractSignal) {
+            signalCount--;
+        }
+
+        final int index = chunks.indexOf(chunk);
+        ReceiverChunk<S> result = chunk;
+        if (chunk.isEmpty()) {
+            chunks.remove(index);
+        } else if (index + 1 < chunks.size() && isUnderfilled(chunk, chunks.get(index + 1))) {
+            chunk.append(chunks.remove(index + 1));
+        } else if (index > 0 && isUnderfilled(chunks.get(index - 1), chunk)) {
+            result = chunks.get(index - 1);
+            result.append(chunks.remove(index));
+        }
+        return result;
+    }
+
+    private boolean isUnderfilled(final ReceiverChunk<S> first, final ReceiverChunk<S> second) {
+        return first.size() + second.size() <= chunkCapacity / 2;
+    }
+
+    private void purge() {
+        if (staleReceivers == null) {
+            return;
+        }
+
+        final List<ReceiverChunk<S>> changed = new ArrayList<>();
+        for (Reference<?> e = staleReceivers.poll(); e != null; e = staleReceivers.poll()) {
+            @SuppressWarnings("unchecked")
+            final SlotConnection<S> connection = ((WeakReceiver<S>) e).getConnection();
+            if (connection.getChunk() != null) {
+                changed.add(detach(connection));
+            }
+        }
+        if (!changed.isEmpty()) {
+            for (ReceiverChunk<S> e : changed) {
+                e.publish();
+            }
+            publishSegments();
+        }
+    }
+
+    private void publishSegments() {
+        int count = 0;
+        for (ReceiverChunk<S> e : chunks) {
+            count += e.getSlots().length > 0 ? 1 : 0;
+        }
+        final S[][] result = newSegments(count);
+        int index = 0;
+        for (ReceiverChunk<S> e : chunks) {
+            if (e.getSlots().length > 0) {
+                result[index++] = e.getSlots();
+            }
+        }
+        containsSignals = signalCount > 0;
+        segments = result;
+        version++;
+    }
+
+    @SuppressWarnings("unchecked")
+    private S[][] newSegments(final int length) {
+        return (S[][]) Array.newInstance(noSlots.getClass(), length);
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An asynchronous signal passing the data through a preallocated ring buffer to its slots.
+ * <p>Each connected slot runs on its own thread as consumer of the ring buffer and receives the values at its own
+ * pace in order of emission. The signal publishes a value by writing it into the ring buffer and advancing a sequence
+ * number, so emitting neither allocates nor locks. If the slowest slot lags behind by the capacity of the ring buffer,
+ * the emitting thread waits with the wait strategy.</p>
+ * <p>Only one thread at a time may emit. Values emitted while no slot is connected are lost. A slot connected while
+ * emitting receives the values emitted after it was registered as consumer.</p>
+ * <p>Consumed values are not cleared from the ring buffer, so the last <i>capacity</i> values stay reachable until
+ * they are overwritten by later emits. Do not pass large objects, which should be collected early.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class RingBufferSignal1<T> implements Slot1<T> {
+
+    private static final int DEFAULT_CAPACITY = 1024;
+    private static final Consumer<?>[] NO_CONSUMERS = new Consumer<?>[0];
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+    private final Object[] entries;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final ThreadFactory threadFactory;
+    private final Sequence cursor = new Sequence(-1);
+    private volatile Consumer<?>[] consumers = NO_CONSUMERS;
+    private long next = -1;
+    private long cachedGatingSequence = -1;
+    private Consumer<?>[] gatingConsumers = NO_CONSUMERS;
+    private volatile boolean blocked;
+
+    public RingBufferSignal1() {
+        this(DEFAULT_CAPACITY, WaitStrategy.SLEEPING, RingBufferSignal1::newConsumerThread);
+    }
+
+    /**
+     * Creates a signal with the given ring buffer.
+     *
+     * @param capacity      the number of values a slot can lag behind, rounded up to the next power of two
+     * @param waitStrategy  the strategy of the emitting thread waiting for a slot and of the slots waiting for values
+     * @param threadFactory creates the thread for each connected slot
+     */
+    public RingBufferSignal1(final int capacity, final WaitStrategy waitStrategy, final ThreadFactory threadFactory) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+        this.threadFactory = Objects.requireNonNull(threadFactory, "threadFactory");
+        final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        entries = new Object[size];
+        mask = size - 1;
+    }
+
+    public final int getCapacity() {
+        return entries.length;
+    }
+
+    /**
+     * Connects a slot and starts its thread.
+     *
+     * @param receiver the slot to connect
+     * @return the connection
+     */
+    public final Connection connect(final Slot1<T> receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        final Consumer<T> consumer;
+        synchronized (this) {
+            consumer = new Consumer<>(this, receiver, cursor.get());
+            final Consumer<?>[] newConsumers = Arrays.copyOf(consumers, consumers.length + 1);
+            newConsumers[consumers.length] = consumer;
+            consumers = newConsumers;
+            // read the cursor again after the consumer gates the emitting thread, values emitted before may be
+            // overwritten already
+            consumer.sequence.set(cursor.get());
+        }
+        threadFactory.newThread(consumer).start();
+        return consumer;
+    }
+
+    public final void disconnect(final Slot1<T> receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        for (Consumer<?> e : consumers) {
+            if (e.receiver.equals(receiver)) {
+                e.disconnect();
+                break;
+            }
+        }
+    }
+
+    public final void emit(final T value) {
+        if (isBlocked()) {
+            return;
+        }
+
+        final long sequence = next + 1;
+        final long wrapPoint = sequence - entries.length;
+        final Consumer<?>[] currentConsumers = consumers;
+        if (currentConsumers != gatingConsumers) {
+            // a new consumer may lag behind the cached gating sequence
+            gatingConsumers = currentConsumers;
+            cachedGatingSequence = -1;
+        }
+        if (cachedGatingSequence < wrapPoint) {
+            cachedGatingSequence = awaitConsumers(wrapPoint);
+        }
+        entries[(int) sequence & mask] = value;
+        next = sequence;
+        cursor.set(sequence);
+    }
+
+    public final boolean isBlocked() {
+        return blocked;
+    }
+
+    public final void setBlocked(final boolean blocked) {
+        this.blocked = blocked;
+    }
+
+    @Override
+    public final void receive(final T value) {
+        emit(value);
+    }
+
+    private long awaitConsumers(final long wrapPoint) {
+        int retries = 0;
+        long minimum = minimumSequence();
+        while (minimum < wrapPoint) {
+            waitStrategy.idle(retries++);
+            minimum = minimumSequence();
+        }
+        return minimum;
+    }
+
+    private long minimumSequence() {
+        long minimum = next;
+        for (Consumer<?> e : consumers) {
+            minimum = Math.min(minimum, e.sequence.get());
+        }
+        return minimum;
+    }
+
+    private synchronized void remove(final Consumer<?> consumer) {
+        final int index = Arrays.asList(consumers).indexOf(consumer);
+        if (index == -1) {
+            return;
+        }
+
+        final Consumer<?>[] newConsumers = new Consumer<?>[consumers.length - 1];
+        System.arraycopy(consumers, 0, newConsumers, 0, index);
+        System.arraycopy(consumers, index + 1, newConsumers, index, newConsumers.length - index);
+        consumers = newConsumers;
+    }
+
+    private static Thread newConsumerThread(final Runnable consumer) {
+        final Thread thread = new Thread(consumer, "signalslot-ringbuffer-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * A connected slot, consuming the ring buffer on its own thread.
+     *
+     * @param <T> value type
+     */
+    private static final class Consumer<T> implements Connection, Runnable {
+
+        private final RingBufferSignal1<T> signal;
+        private final Slot1<T> receiver;
+        private final Sequence sequence;
+        private volatile boolean connected = true;
+        private volatile boolean blocked;
+
+        Consumer(final RingBufferSignal1<T> signal, final Slot1<T> receiver, final long sequence) {
+            this.signal = signal;
+            this.receiver = receiver;
+            this.sequence = new Sequence(sequence);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consume();
+            } finally {
+                disconnect();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void consume() {
+            long nextSequence = sequence.get() + 1;
+            int retries = 0;
+            while (connected) {
+                final long available = signal.cursor.get();
+                if (available < nextSequence) {
+                    signal.waitStrategy.idle(retries++);
+                    continue;
+                }
+
+                retries = 0;
+                for (; nextSequence <= available && connected; nextSequence++) {
+                    final T value = (T) signal.entries[(int) nextSequence & signal.mask];
+                    if (!blocked) {
+                        receiver.receive(value);
+                    }
+                }
+                sequence.set(nextSequence - 1);
+            }
+        }
+
+        @Override
+        public void disconnect() {
+            connected = false;
+            signal.remove(this);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public void block() {
+            blocked = true;
+        }
+
+        @Override
+        public void unblock() {
+            blocked = false;
+        }
+
+        @Override
+        public boolean isBlocked() {
+            return blocked;
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A sequence number written by one thread and read by others.
+ * <p>The value is padded, so sequences of different threads do not share a cache line. Setting the value is an
+ * ordered write, which is cheaper than a volatile write, but makes all previous writes visible before.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class Sequence {
+
+    private static final AtomicLongFieldUpdater<Sequence> VALUE =
+        AtomicLongFieldUpdater.newUpdater(Sequence.class, "value");
+
+    // padding against false sharing
+    private long p1;
+    private long p2;
+    private long p3;
+    private long p4;
+    private long p5;
+    private long p6;
+    private long p7;
+    private volatile long value;
+    private long p9;
+    private long p10;
+    private long p11;
+    private long p12;
+    private long p13;
+    private long p14;
+    private long p15;
+
+    Sequence(final long value) {
+        this.value = value;
+    }
+
+    long get() {
+        return value;
+    }
+
+    void set(final long newValue) {
+        VALUE.lazySet(this, newValue);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * A signal act as source of an event and can connect to a slot.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class Signal0 extends AbstractSignal<Slot0> implements Slot0 {
+
+    public Signal0() {
+        super(Slot0[]::new);
+    }
+
+    /**
+     * Connects a slot which receives the events on the executor.
+     * <p>The signal does not wait for the slot. The slot receives the events in order of emission.</p>
+     *
+     * @param receiver the slot to connect
+     * @param executor the executor calling the slot
+     * @return the connection
+     */
+    public final Connection connect(final Slot0 receiver, final Executor executor) {
+        Objects.requireNonNull(receiver, "receiver");
+        Objects.requireNonNull(executor, "executor");
+        return addReceiver(receiver, new QueuedSlot0(receiver, executor));
+    }
+
+    public final void emit() {
+        if (isBlocked()) {
+            defer(null);
+            return;
+        }
+
+        final Slot0[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            emitMonitored(segments, monitor);
+            return;
+        }
+
+        for (Slot0[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                slots[i].receive();
+            }
+        }
+    }
+
+    @Override
+    public final void receive() {
+        emit();
+    }
+
+    private static void emitMonitored(final Slot0[][] segments, final SignalMonitor monitor) {
+        monitor.emitting();
+        long slotsNanos = 0;
+        int fanOut = 0;
+        for (Slot0[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                monitor.slotCalling(slots[i]);
+                final long start = System.nanoTime();
+                slots[i].receive();
+                final long duration = System.nanoTime() - start;
+                monitor.slotCalled(slots[i], duration);
+                slotsNanos += duration;
+            }
+            fanOut += slots.length;
+        }
+        monitor.emitted(fanOut, slotsNanos);
+    }
+
+    @Override
+    final Slot0 weakSlot(final Reference<Slot0> receiver) {
+        return new Slot0() {
+            @Override
+            public void receive() {
+                final Slot0 slot = receiver.get();
+                if (slot != null) {
+                    slot.receive();
+                }
+            }
+        };
+    }
+
+    @Override
+    final void emitDeferred(final Object value) {
+        emit();
+    }
+
+}
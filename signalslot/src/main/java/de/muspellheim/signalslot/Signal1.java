@@ -0,0 +1,343 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.Reference;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A signal act as source of data and can connect to any compatible slot.
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class Signal1<T> extends AbstractSignal<Slot1<T>> implements BatchSlot<T> {
+
+    private final BiFunction<Slot1<T>, Executor, Slot1<T>> queuedSlotFactory;
+    private volatile ParallelEmit<T> parallelEmit;
+
+    public Signal1() {
+        this(QueuedSlot1::new);
+    }
+
+    /**
+     * Creates a signal with the given factory for slots calling the receiver on an executor.
+     */
+    @SuppressWarnings("unchecked")
+    Signal1(final BiFunction<Slot1<T>, Executor, Slot1<T>> queuedSlotFactory) {
+        super(Slot1[]::new);
+        this.queuedSlotFactory = queuedSlotFactory;
+    }
+
+    /**
+     * Connects a slot which receives the values on the executor.
+     * <p>The signal does not wait for the slot. The slot receives the values in order of emission.</p>
+     *
+     * @param receiver the slot to connect
+     * @param executor the executor calling the slot
+     * @return the connection
+     */
+    public final Connection connect(final Slot1<T> receiver, final Executor executor) {
+        Objects.requireNonNull(receiver, "receiver");
+        Objects.requireNonNull(executor, "executor");
+        return addReceiver(receiver, queuedSlotFactory.apply(receiver, executor));
+    }
+
+    public final void emit(final T value) {
+        if (isBlocked()) {
+            defer(value);
+            return;
+        }
+
+        final Slot1<T>[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        final ParallelEmit<T> parallel = parallelEmit;
+        if (monitor != null) {
+            emitMonitored(segments, value, monitor);
+        } else if (parallel != null && parallel.accepts(segments)) {
+            parallel.emit(segments, value);
+        } else {
+            for (Slot1<T>[] slots : segments) {
+                for (int i = 0; i < slots.length; i++) {
+                    slots[i].receive(value);
+                }
+            }
+        }
+    }
+
+    /**
+     * Emits a value on the pool of the parallel emit, or on the common pool if parallel emit is not enabled.
+     *
+     * @param value the value to emit
+     * @return a future completed when all slots are finished, completed exceptionally if a slot throws
+     * @see #enableParallelEmit(ForkJoinPool, int)
+     */
+    public final CompletableFuture<Void> emitAsync(final T value) {
+        final ParallelEmit<T> parallel = parallelEmit;
+        final ForkJoinPool pool = parallel != null ? parallel.getPool() : ForkJoinPool.commonPool();
+        return CompletableFuture.runAsync(() -> emit(value), pool);
+    }
+
+    /**
+     * Emits a batch of values.
+     * <p>A {@link BatchSlot} receives the whole batch in one call, any other slot receives the values one after
+     * another. Each slot receives all values before the next slot.</p>
+     *
+     * @param values the values to emit
+     */
+    public final void emitAll(final Iterable<? extends T> values) {
+        Objects.requireNonNull(values, "values");
+        if (isBlocked()) {
+            for (T e : values) {
+                defer(e);
+            }
+            return;
+        }
+
+        final Slot1<T>[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            emitAllMonitored(segments, values, monitor);
+            return;
+        }
+
+        for (Slot1<T>[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                receiveAll(slots[i], values);
+            }
+        }
+    }
+
+    /**
+     * Emits a batch of values.
+     *
+     * @param values the values to emit
+     * @see #emitAll(Iterable)
+     */
+    public final void emitAll(final T[] values) {
+        Objects.requireNonNull(values, "values");
+        if (isBlocked()) {
+            for (int i = 0; i < values.length; i++) {
+                defer(values[i]);
+            }
+            return;
+        }
+
+        final Slot1<T>[][] segments = getSegments();
+        final SignalMonitor monitor = getMonitor();
+        if (monitor != null) {
+            emitAllMonitored(segments, Arrays.asList(values), monitor);
+            return;
+        }
+
+        Iterable<T> batch = null;
+        for (Slot1<T>[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                if (slots[i] instanceof BatchSlot) {
+                    batch = batch != null ? batch : Arrays.asList(values);
+                    ((BatchSlot<T>) slots[i]).receiveAll(batch);
+                } else {
+                    receiveAll(slots[i], values);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calls the slots in parallel on the pool, if the signal has at least the threshold of slots.
+     * <p>Emit splits the slots into tasks of the pool and returns after all slots are finished. Each slot is called,
+     * even if other slots throw. Emit throws the first exception of a slot with the exceptions of the other slots as
+     * suppressed. Use it for many independent slots doing noticeable work, the slots must be thread safe. A monitored
+     * signal and {@link #emitAll(Iterable)} call the slots one after another as before.</p>
+     *
+     * @param pool      the pool calling the slots
+     * @param threshold the minimal fan-out to emit in parallel
+     */
+    public final void enableParallelEmit(final ForkJoinPool pool, final int threshold) {
+        Objects.requireNonNull(pool, "pool");
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        parallelEmit = new ParallelEmit<>(pool, threshold);
+    }
+
+    /**
+     * Calls the slots one after another on the emitting thread again. Does nothing if parallel emit is not enabled.
+     */
+    public final void disableParallelEmit() {
+        parallelEmit = null;
+    }
+
+    /**
+     * Returns a signal emitting at most one value of this signal per interval.
+     * <p>The first value is emitted immediately. Values during the interval replace each other and the latest is
+     * emitted when the interval ends. All throttled and debounced signals share one timer thread, which emits the
+     * delayed values.</p>
+     *
+     * @param interval the minimal interval between two values
+     * @return the throttled signal, close it to disconnect it from this signal
+     */
+    public final DerivedSignal1<T> throttle(final Duration interval) {
+        requirePositive(interval, "interval");
+        final DerivedSignal1<T> throttled = new DerivedSignal1<>();
+        final ThrottleSlot1<T> slot = new ThrottleSlot1<>(throttled, interval.toNanos(), TimerWheel.getDefault());
+        throttled.attach(connect(slot), slot::cancel);
+        return throttled;
+    }
+
+    /**
+     * Returns a signal emitting the latest value of this signal, after this signal was silent for the delay.
+     * <p>All throttled and debounced signals share one timer thread, which emits the values.</p>
+     *
+     * @param delay the time without a new value
+     * @return the debounced signal, close it to disconnect it from this signal
+     */
+    public final DerivedSignal1<T> debounce(final Duration delay) {
+        requirePositive(delay, "delay");
+        final DerivedSignal1<T> debounced = new DerivedSignal1<>();
+        final DebounceSlot1<T> slot = new DebounceSlot1<>(debounced, delay.toNanos(), TimerWheel.getDefault());
+        debounced.attach(connect(slot), slot::cancel);
+        return debounced;
+    }
+
+    /**
+     * Starts a pipeline transforming each value.
+     *
+     * @param mapper the transformation
+     * @param <R>    the transformed value type
+     * @return the pipeline
+     * @see SignalPipeline
+     */
+    public final <R> SignalPipeline<T, R> map(final Function<? super T, ? extends R> mapper) {
+        return pipeline().map(mapper);
+    }
+
+    /**
+     * Starts a pipeline passing only the values matching the predicate.
+     *
+     * @param predicate the condition for passing values
+     * @return the pipeline
+     * @see SignalPipeline
+     */
+    public final SignalPipeline<T, T> filter(final Predicate<? super T> predicate) {
+        return pipeline().filter(predicate);
+    }
+
+    /**
+     * Starts a pipeline passing only values not equal to the previous value.
+     *
+     * @return the pipeline
+     * @see SignalPipeline
+     */
+    public final SignalPipeline<T, T> distinctUntilChanged() {
+        return pipeline().distinctUntilChanged();
+    }
+
+    @Override
+    public final void receive(final T value) {
+        emit(value);
+    }
+
+    @Override
+    public final void receiveAll(final Iterable<? extends T> values) {
+        emitAll(values);
+    }
+
+    private static <T> void emitMonitored(final Slot1<T>[][] segments, final T value, final SignalMonitor monitor) {
+        monitor.emitting();
+        long slotsNanos = 0;
+        int fanOut = 0;
+        for (Slot1<T>[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                monitor.slotCalling(slots[i]);
+                final long start = System.nanoTime();
+                slots[i].receive(value);
+                final long duration = System.nanoTime() - start;
+                monitor.slotCalled(slots[i], duration);
+                slotsNanos += duration;
+            }
+            fanOut += slots.length;
+        }
+        monitor.emitted(fanOut, slotsNanos);
+    }
+
+    private static <T> void emitAllMonitored(final Slot1<T>[][] segments, final Iterable<? extends T> values,
+                                             final SignalMonitor monitor) {
+        monitor.emitting();
+        long slotsNanos = 0;
+        int fanOut = 0;
+        for (Slot1<T>[] slots : segments) {
+            for (int i = 0; i < slots.length; i++) {
+                monitor.slotCalling(slots[i]);
+                final long start = System.nanoTime();
+                receiveAll(slots[i], values);
+                final long duration = System.nanoTime() - start;
+                monitor.slotCalled(slots[i], duration);
+                slotsNanos += duration;
+            }
+            fanOut += slots.length;
+        }
+        monitor.emitted(fanOut, slotsNanos);
+    }
+
+    /**
+     * Passes a batch to a {@link BatchSlot} in one call, to any other slot one value after another.
+     */
+    private static <T> void receiveAll(final Slot1<T> slot, final Iterable<? extends T> values) {
+        if (slot instanceof BatchSlot) {
+            ((BatchSlot<T>) slot).receiveAll(values);
+        } else {
+            for (T e : values) {
+                slot.receive(e);
+            }
+        }
+    }
+
+    private static <T> void receiveAll(final Slot1<T> slot, final T[] values) {
+        for (int i = 0; i < values.length; i++) {
+            slot.receive(values[i]);
+        }
+    }
+
+    private SignalPipeline<T, T> pipeline() {
+        return new SignalPipeline<>(this, Function.identity());
+    }
+
+    private static void requirePositive(final Duration duration, final String name) {
+        Objects.requireNonNull(duration, name);
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive: " + duration);
+        }
+    }
+
+    @Override
+    final Slot1<T> weakSlot(final Reference<Slot1<T>> receiver) {
+        return new Slot1<T>() {
+            @Override
+            public void receive(final T value) {
+                final Slot1<T> slot = receiver.get();
+                if (slot != null) {
+                    slot.receive(value);
+                }
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    final void emitDeferred(final Object value) {
+        emit((T) value);
+    }
+
+}
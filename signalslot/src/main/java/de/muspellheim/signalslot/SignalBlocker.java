@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * Blocks a signal for a scope, use it with try-with-resources.
+ * <pre>
+ * try (SignalBlocker blocker = signal.block()) {
+ *     // bulk update emitting many values
+ * }
+ * </pre>
+ * <p>Closing restores the blocked state the signal had before, so blockers can be nested. When the signal gets
+ * unblocked, it emits the values recorded according to its {@link BlockMode}.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class SignalBlocker implements AutoCloseable {
+
+    private final Runnable restore;
+    private boolean closed;
+
+    SignalBlocker(final Runnable restore) {
+        this.restore = restore;
+    }
+
+    /**
+     * Restores the previous blocked state of the signal. Does nothing if already closed.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        restore.run();
+    }
+
+}
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+/**
+ * Routes values by hierarchical topic names to slots, so publishers and subscribers only share the hub.
+ * <p>A topic consists of segments separated by dots, e.g. <code>orders.eu.filled</code>. A subscription pattern may
+ * contain the wildcards <code>*</code> for exactly one segment and <code>**</code> for any number of segments, e.g.
+ * <code>orders.*.filled</code> or <code>orders.**</code>.</p>
+ * <p>The subscriptions are stored in a trie of topic segments. Publishing to a topic resolves the matching
+ * subscriptions once by walking the trie along the topic and caches the slots for the topic. Each node of the trie has
+ * a version, which changes with its subscriptions and children. The cached slots remember the versions of the nodes
+ * they were resolved from and are resolved again on the next publish only if one of these nodes changed, so a change
+ * below <code>orders</code> does not invalidate the slots of <code>invoices</code>. So publishing does not scan all
+ * subscriptions and, like emitting a signal, only walks an array of slots. Slots of a topic are called in order of
+ * subscription.</p>
+ * <p>Each node knows the cached topics resolved through it. A change of a node evicts exactly these topics, so the
+ * cache only holds topics whose slots are still valid. Disconnecting also prunes the nodes left without subscriptions
+ * and children. Topics without any subscribed slot are not cached, so publishing to many short-lived topics does not
+ * grow the hub.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public class SignalHub<T> {
+
+    private static final Pattern SEPARATOR = Pattern.compile("\\.");
+    private static final String ANY_SEGMENT = "*";
+    private static final String ANY_SEGMENTS = "**";
+
+    private final Node<T> root = new Node<>();
+    private final Map<String, Topic<T>> topics = new ConcurrentHashMap<>();
+    private long nextSubscription;
+
+    /**
+     * Publishes a value to the slots subscribed to a topic.
+     *
+     * @param topic the topic, without wildcards
+     * @param value the value to publish
+     */
+    public final void publish(final String topic, final T value) {
+        final Slot1<T>[] slots = resolve(topic);
+        for (int i = 0; i < slots.length; i++) {
+            slots[i].receive(value);
+        }
+    }
+
+    /**
+     * Returns a slot publishing the received values to a topic, e.g. to connect a signal to the hub.
+     *
+     * @param topic the topic, without wildcards
+     * @return the slot publishing to the topic
+     */
+    public final Slot1<T> publisher(final String topic) {
+        split(topic, false);
+        return v -> publish(topic, v);
+    }
+
+    /**
+     * Subscribes a slot to all topics matching the pattern.
+     *
+     * @param pattern  the topic pattern, may contain wildcards
+     * @param receiver the slot receiving the values
+     * @return the connection to disconnect or block the subscription
+     */
+    public final Connection subscribe(final String pattern, final Slot1<T> receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        final String[] segments = split(pattern, true);
+        synchronized (root) {
+            Node<T> node = root;
+            for (String e : segments) {
+                Node<T> child = node.children.get(e);
+                if (child == null) {
+                    child = new Node<>(node, e);
+                    node.children.put(e, child);
+                    changed(node);
+                }
+                node = child;
+            }
+            final Subscription<T> subscription = new Subscription<>(this, node, receiver, nextSubscription++);
+            node.subscriptions.add(subscription);
+            changed(node);
+            return subscription;
+        }
+    }
+
+    /**
+     * Returns the slots subscribed to the topic, resolved on the first publish after a change of the nodes they depend
+     * on.
+     */
+    private Slot1<T>[] resolve(final String topic) {
+        final Topic<T> cached = topics.get(topic);
+        final Topic<T> entry = cached != null ? cached : new Topic<>(split(topic, false));
+        Resolved<T> resolved = entry.resolved;
+        if (resolved == null || !resolved.isValid()) {
+            resolved = match(entry.segments);
+            entry.resolved = resolved;
+            if (resolved.slots.length == 0) {
+                evict(topic);
+            } else {
+                cache(topic, entry, resolved);
+            }
+        }
+        return resolved.slots;
+    }
+
+    /**
+     * Caches the topic and registers it at the nodes it was resolved through. If a node changed meanwhile, it may have
+     * missed the registration, so the topic is evicted again.
+     */
+    @SuppressWarnings("unchecked")
+    private void cache(final String topic, final Topic<T> entry, final Resolved<T> resolved) {
+        final Topic<T> previous = topics.putIfAbsent(topic, entry);
+        if (previous != null && previous != entry) {
+            return;
+        }
+
+        for (Object e : resolved.nodes) {
+            ((Node<T>) e).dependents.add(topic);
+        }
+        if (!resolved.isValid()) {
+            evict(topic);
+        }
+    }
+
+    /**
+     * Removes a topic from the cache and from the nodes it was resolved through.
+     */
+    @SuppressWarnings("unchecked")
+    private void evict(final String topic) {
+        final Topic<T> entry = topics.remove(topic);
+        final Resolved<T> resolved = entry != null ? entry.resolved : null;
+        if (resolved != null) {
+            for (Object e : resolved.nodes) {
+                ((Node<T>) e).dependents.remove(topic);
+            }
+        }
+    }
+
+    /**
+     * Changes the version of a node after its subscriptions or children changed and evicts the topics resolved
+     * through it. Guarded by the root.
+     */
+    private void changed(final Node<T> node) {
+        node.version++;
+        for (String e : node.dependents) {
+            evict(e);
+        }
+        node.dependents.clear();
+    }
+
+    /**
+     * Collects the matching subscriptions, a subscription matching on many paths once, in order of subscription, and
+     * the versions of all visited nodes.
+     */
+    @SuppressWarnings("unchecked")
+    private Resolved<T> match(final String[] segments) {
+        final Map<Node<T>, Long> visited = new IdentityHashMap<>();
+        final List<Subscription<T>> matches = new ArrayList<>();
+        match(root, segments, 0, matches, visited);
+        matches.sort((s1, s2) -> Long.compare(s1.order, s2.order));
+        final List<Slot1<T>> slots = new ArrayList<>(matches.size());
+        Subscription<T> previous = null;
+        for (Subscription<T> e : matches) {
+            if (e != previous && !e.isBlocked()) {
+                slots.add(e.slot);
+            }
+            previous = e;
+        }
+        return new Resolved<>(visited, slots.toArray(new Slot1[slots.size()]));
+    }
+
+    private static <T> void match(final Node<T> node, final String[] segments, final int index,
+                                  final List<Subscription<T>> matches, final Map<Node<T>, Long> visited) {
+        // read the version first, a change while matching is detected on the next publish
+        visited.putIfAbsent(node, node.version);
+        final Node<T> anySegments = node.children.get(ANY_SEGMENTS);
+        if (anySegments != null) {
+            for (int i = index; i <= segments.length; i++) {
+                match(anySegments, segments, i, matches, visited);
+            }
+        }
+        if (index == segments.length) {
+            matches.addAll(node.subscriptions);
+            return;
+        }
+
+        final Node<T> exact = node.children.get(segments[index]);
+        if (exact != null) {
+            match(exact, segments, index + 1, matches, visited);
+        }
+        final Node<T> anySegment = node.children.get(ANY_SEGMENT);
+        if (anySegment != null) {
+            match(anySegment, segments, index + 1, matches, visited);
+        }
+    }
+
+    private static String[] split(final String topic, final boolean wildcards) {
+        Objects.requireNonNull(topic, "topic");
+        final String[] segments = SEPARATOR.split(topic, -1);
+        for (String e : segments) {
+            if (e.isEmpty()) {
+                throw new IllegalArgumentException("empty segment in topic: " + topic);
+            }
+            final boolean wildcard = e.equals(ANY_SEGMENT) || e.equals(ANY_SEGMENTS);
+            if (e.contains(ANY_SEGMENT) && !(wildcards && wildcard)) {
+                throw new IllegalArgumentException("invalid wildcard in topic: " + topic);
+            }
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the number of nodes in the trie, including the root.
+     */
+    final int getNodeCount() {
+        synchronized (root) {
+            return root.count();
+        }
+    }
+
+    /**
+     * Returns the number of topics with cached slots.
+     */
+    final int getCachedTopicCount() {
+        return topics.size();
+    }
+
+    private void remove(final Subscription<T> subscription) {
+        synchronized (root) {
+            final Node<T> node = subscription.node;
+            if (!node.subscriptions.remove(subscription)) {
+                return;
+            }
+
+            changed(node);
+            prune(node);
+        }
+    }
+
+    private void invalidate(final Node<T> node) {
+        synchronized (root) {
+            changed(node);
+        }
+    }
+
+    /**
+     * Removes the node and its ancestors as long as they have neither subscriptions nor children.
+     */
+    private void prune(final Node<T> node) {
+        Node<T> current = node;
+        while (current.parent != null && current.subscriptions.isEmpty() && current.children.isEmpty()) {
+            current.parent.children.remove(current.segment);
+            changed(current.parent);
+            current = current.parent;
+        }
+    }
+
+    /**
+     * A node of the trie, the segment is the key in the children of its parent.
+     */
+    private static final class Node<T> {
+
+        private final Node<T> parent;
+        private final String segment;
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private final List<Subscription<T>> subscriptions = new CopyOnWriteArrayList<>();
+        private final Set<String> dependents = ConcurrentHashMap.newKeySet();
+        private volatile long version;
+
+        Node() {
+            this(null, null);
+        }
+
+        Node(final Node<T> parent, final String segment) {
+            this.parent = parent;
+            this.segment = segment;
+        }
+
+        int count() {
+            int result = 1;
+            for (Node<T> e : children.values()) {
+                result += e.count();
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * A published topic with the cached slots.
+     */
+    private static final class Topic<T> {
+
+        private final String[] segments;
+        private volatile Resolved<T> resolved;
+
+        Topic(final String[] segments) {
+            this.segments = segments;
+        }
+
+    }
+
+    /**
+     * The slots resolved for a topic and the versions of the nodes they were resolved from.
+     */
+    private static final class Resolved<T> {
+
+        private final Object[] nodes;
+        private final long[] versions;
+        private final Slot1<T>[] slots;
+
+        Resolved(final Map<Node<T>, Long> visited, final Slot1<T>[] slots) {
+            this.nodes = new Object[visited.size()];
+            this.versions = new long[visited.size()];
+            int index = 0;
+            for (Map.Entry<Node<T>, Long> e : visited.entrySet()) {
+                nodes[index] = e.getKey();
+                versions[index] = e.getValue();
+                index++;
+            }
+            this.slots = slots;
+        }
+
+        @SuppressWarnings("unchecked")
+        boolean isValid() {
+            for (int i = 0; i < nodes.length; i++) {
+                if (((Node<T>) nodes[i]).version != versions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * A slot subscribed to a topic pattern.
+     */
+    private static final class Subscription<T> implements Connection {
+
+        private final SignalHub<T> hub;
+        private final Node<T> node;
+        private final Slot1<T> slot;
+        private final long order;
+        private volatile boolean connected = true;
+        private volatile boolean blocked;
+
+        Subscription(final SignalHub<T> hub, final Node<T> node, final Slot1<T> slot, final long order) {
+            this.hub = hub;
+            this.node = node;
+            this.slot = slot;
+            this.order = order;
+        }
+
+        @Override
+        public void disconnect() {
+            connected = false;
+            hub.remove(this);
+        }
+
+        @Override
+        public boolean isConnected() {
+            return connected;
+        }
+
+        @Override
+        public void block() {
+            blocked = true;
+            hub.invalidate(node);
+        }
+
+        @Override
+        public void unblock() {
+            blocked = false;
+            hub.invalidate(node);
+        }
+
+        @Override
+        public boolean isBlocked() {
+            return blocked;
+        }
+
+    }
+
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records emission count, fan-out, blocked drops and slot latencies of a signal and publishes them as MXBean.
+ * <p>Enable the metrics with {@link Signal1#enableMetrics(String)} or the same method of the other signals. The
+ * MXBean is registered as <code>de.muspellheim.signalslot:type=Signal,name=&lt;name&gt;</code> at the platform MBean
+ * server, look for slow slots in its attribute <code>SlotMetrics</code>.</p>
+ * <p>The metrics of a slot are kept as long as the slot is alive, they do not keep the slot alive.</p>
+ * <p>The slots are looked up by identity in a copy on write hash table, so recording a slot call takes no lock and
+ * allocates nothing. Only the first call of a slot copies the table, which drops the collected slots.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class SignalMetrics implements SignalMonitor, SignalMetricsMXBean {
+
+    private static final int MIN_TABLE_SIZE = 16;
+
+    private final String name;
+    private final ObjectName objectName;
+    private final LongAdder emissions = new LongAdder();
+    private final LongAdder blockedDrops = new LongAdder();
+    private final Object tableLock = new Object();
+    private volatile SlotEntry[] table = new SlotEntry[MIN_TABLE_SIZE];
+    private volatile int lastFanOut;
+
+    /**
+     * Creates the metrics of a signal.
+     *
+     * @param name the name of the signal, unique among the registered signals
+     */
+    public SignalMetrics(final String name) {
+        this.name = name;
+        try {
+            objectName = new ObjectName("de.muspellheim.signalslot:type=Signal,name=" + ObjectName.quote(name));
+        } catch (final JMException e) {
+            throw new IllegalArgumentException("invalid signal name: " + name, e);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    public ObjectName getObjectName() {
+        return objectName;
+    }
+
+    @Override
+    public long getEmissionCount() {
+        return emissions.sum();
+    }
+
+    @Override
+    public int getFanOut() {
+        return lastFanOut;
+    }
+
+    @Override
+    public long getBlockedDropCount() {
+        return blockedDrops.sum();
+    }
+
+    @Override
+    public List<SlotMetrics> getSlotMetrics() {
+        final List<SlotMetrics> result = new ArrayList<>();
+        for (SlotEntry e : liveEntries(table)) {
+            result.add(e.metrics);
+        }
+        result.sort(Comparator.comparingLong(SlotMetrics::getMaxNanos).reversed());
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        emissions.reset();
+        blockedDrops.reset();
+        for (SlotEntry e : liveEntries(table)) {
+            e.metrics.reset();
+        }
+    }
+
+    /**
+     * Registers the MXBean at the platform MBean server.
+     *
+     * @throws IllegalArgumentException if a signal with the same name is already registered
+     */
+    public void register() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.registerMBean(this, objectName);
+        } catch (final InstanceAlreadyExistsException e) {
+            throw new IllegalArgumentException("signal already registered: " + name, e);
+        } catch (final JMException e) {
+            throw new IllegalStateException("can not register signal metrics: " + name, e);
+        }
+    }
+
+    /**
+     * Unregisters the MXBean. Does nothing if not registered.
+     */
+    public void unregister() {
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            server.unregisterMBean(objectName);
+        } catch (final InstanceNotFoundException e) {
+            return;
+        } catch (final JMException e) {
+            throw new IllegalStateException("can not unregister signal metrics: " + name, e);
+        }
+    }
+
+    @Override
+    public void slotCalled(final Object slot, final long durationNanos) {
+        metricsOf(slot).record(durationNanos);
+    }
+
+    @Override
+    public void emitted(final int fanOut, final long durationNanos) {
+        emissions.increment();
+        lastFanOut = fanOut;
+    }
+
+    @Override
+    public void dropped() {
+        blockedDrops.increment();
+    }
+
+    /**
+     * Returns the metrics of the slot, probing the current table without lock.
+     */
+    private SlotMetrics metricsOf(final Object slot) {
+        final SlotEntry[] current = table;
+        final int mask = current.length - 1;
+        for (int i = System.identityHashCode(slot) & mask; current[i] != null; i = (i + 1) & mask) {
+            if (current[i].get() == slot) {
+                return current[i].metrics;
+            }
+        }
+        return add(slot);
+    }
+
+    /**
+     * Adds the metrics of a slot called the first time, copies the table without the collected slots.
+     */
+    private SlotMetrics add(final Object slot) {
+        synchronized (tableLock) {
+            final List<SlotEntry> entries = liveEntries(table);
+            for (SlotEntry e : entries) {
+                if (e.get() == slot) {
+                    return e.metrics;
+                }
+            }
+
+            final SlotEntry entry = new SlotEntry(slot, new SlotMetrics(String.valueOf(slot)));
+            entries.add(entry);
+            int length = MIN_TABLE_SIZE;
+            while (length < entries.size() * 2) {
+                length *= 2;
+            }
+            final SlotEntry[] copy = new SlotEntry[length];
+            for (SlotEntry e : entries) {
+                int i = System.identityHashCode(e.get()) & (length - 1);
+                while (copy[i] != null) {
+                    i = (i + 1) & (length - 1);
+                }
+                copy[i] = e;
+            }
+            table = copy;
+            return entry.metrics;
+        }
+    }
+
+    private static List<SlotEntry> liveEntries(final SlotEntry[] entries) {
+        final List<SlotEntry> result = new ArrayList<>();
+        for (SlotEntry e : entries) {
+            if (e != null && e.get() != null) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SignalMetrics[name=" + name + ", emissions=" + getEmissionCount() + ", fanOut=" + lastFanOut
+                + ", blockedDrops=" + getBlockedDropCount() + "]";
+    }
+
+    /**
+     * A weakly referenced slot and its metrics.
+     */
+    private static final class SlotEntry extends WeakReference<Object> {
+
+        private final SlotMetrics metrics;
+
+        SlotEntry(final Object slot, final SlotMetrics metrics) {
+            super(slot);
+            this.metrics = metrics;
+        }
+
+    }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.List;
+
+/**
+ * The metrics of a signal, published via JMX.
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ * @see SignalMetrics
+ */
+public interface SignalMetricsMXBean {
+
+    String getName();
+
+    long getEmissionCount();
+
+    /**
+     * Returns the number of slots called by the last emit.
+     */
+    int getFanOut();
+
+    long getBlockedDropCount();
+
+    /**
+     * Returns the metrics of the called slots, the slowest first by maximal latency.
+     */
+    List<SlotMetrics> getSlotMetrics();
+
+    /**
+     * Resets all counters and histograms.
+     */
+    void reset();
+
+}
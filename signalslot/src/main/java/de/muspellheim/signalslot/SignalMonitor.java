@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * Observes the emits of one signal, e.g. to record metrics or profiling events.
+ * <p>Set a monitor with {@link Signal1#setMonitor(SignalMonitor)} or the same method of the other signals. Without a
+ * monitor a signal only checks for <code>null</code> on emit. The monitor is called on the emitting thread, so it
+ * must be thread safe and fast.</p>
+ * <p>A monitored signal is not flattened into the dispatch plan of the signals it is connected to, so it observes
+ * all its emits.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public interface SignalMonitor {
+
+    /**
+     * Called before the first slot is called, e.g. to begin a timed event. Does nothing by default.
+     * <p>If a slot throws, neither {@link #slotCalled(Object, long)} nor {@link #emitted(int, long)} follow.</p>
+     */
+    default void emitting() {
+    }
+
+    /**
+     * Called right before a slot is called. Does nothing by default.
+     *
+     * @param slot the slot to call
+     */
+    default void slotCalling(final Object slot) {
+    }
+
+    /**
+     * Called after a slot returned.
+     *
+     * @param slot          the called slot
+     * @param durationNanos the time the slot took in nanoseconds
+     */
+    void slotCalled(Object slot, long durationNanos);
+
+    /**
+     * Called after all slots returned.
+     *
+     * @param fanOut        the number of called slots
+     * @param durationNanos the time all slots took in nanoseconds, without the time of the monitor
+     */
+    void emitted(int fanOut, long durationNanos);
+
+    /**
+     * Called when a blocked signal drops a value, discarded or replaced by a coalesced value.
+     */
+    void dropped();
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Operators applied to the values of a signal, before they reach a slot.
+ * <p>The operators are fused: connecting a slot composes all stages into one slot, which is connected to the source
+ * signal. There is no intermediate signal and no slot list per stage, each value is passed from stage to stage by a
+ * direct call. A pipeline is immutable, each operator returns a new pipeline and can be connected many times.</p>
+ *
+ * @param <T> value type of the source signal
+ * @param <R> value type at the end of the pipeline
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class SignalPipeline<T, R> {
+
+    private final Signal1<T> source;
+    private final Function<Slot1<R>, Slot1<T>> stages;
+
+    SignalPipeline(final Signal1<T> source, final Function<Slot1<R>, Slot1<T>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    /**
+     * Transforms each value.
+     *
+     * @param mapper the transformation
+     * @param <U>    the transformed value type
+     * @return the extended pipeline
+     */
+    public <U> SignalPipeline<T, U> map(final Function<? super R, ? extends U> mapper) {
+        Objects.requireNonNull(mapper, "mapper");
+        return new SignalPipeline<>(source, s -> stages.apply(v -> s.receive(mapper.apply(v))));
+    }
+
+    /**
+     * Passes only the values matching the predicate.
+     *
+     * @param predicate the condition for passing values
+     * @return the extended pipeline
+     */
+    public SignalPipeline<T, R> filter(final Predicate<? super R> predicate) {
+        Objects.requireNonNull(predicate, "predicate");
+        return new SignalPipeline<>(source, s -> stages.apply(v -> passIf(predicate.test(v), s, v)));
+    }
+
+    /**
+     * Passes only values not equal to the previous value.
+     * <p>Each connected slot has its own previous value. The first value is always passed.</p>
+     *
+     * @return the extended pipeline
+     */
+    public SignalPipeline<T, R> distinctUntilChanged() {
+        return new SignalPipeline<>(source, s -> stages.apply(new DistinctSlot<>(s)));
+    }
+
+    /**
+     * Connects a slot to the end of the pipeline.
+     *
+     * @param receiver the slot to connect
+     * @return the connection of the fused slot to the source signal
+     */
+    public Connection connect(final Slot1<R> receiver) {
+        Objects.requireNonNull(receiver, "receiver");
+        return source.connect(stages.apply(receiver));
+    }
+
+    /**
+     * Returns a new signal emitting the values at the end of the pipeline.
+     * <p>Prefer connecting the slots directly, the signal adds one hop.</p>
+     *
+     * @return the signal connected to the end of the pipeline
+     */
+    public Signal1<R> toSignal() {
+        final Signal1<R> signal = new Signal1<>();
+        connect(signal);
+        return signal;
+    }
+
+    private static <V> void passIf(final boolean pass, final Slot1<V> slot, final V value) {
+        if (pass) {
+            slot.receive(value);
+        }
+    }
+
+    /**
+     * Passes a value only if it is not equal to the previous value.
+     */
+    private static final class DistinctSlot<V> implements Slot1<V> {
+
+        private static final Object NONE = new Object();
+
+        private final Slot1<V> slot;
+        private Object previous = NONE;
+
+        DistinctSlot(final Slot1<V> slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        public void receive(final V value) {
+            if (previous == NONE || !Objects.equals(previous, value)) {
+                previous = value;
+                slot.receive(value);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+/**
+ * A connection of a slot stored in the receivers of a signal.
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class SlotConnection<S> implements Connection {
+
+    private final Receivers<S> receivers;
+    private final S receiver;
+    private final WeakReceiver<S> weakReceiver;
+    private final S slot;
+    private final int priority;
+    private ReceiverChunk<S> chunk;
+    private int index;
+    private boolean blocked;
+
+    SlotConnection(final Receivers<S> receivers, final S receiver, final S slot, final int priority) {
+        this.receivers = receivers;
+        this.receiver = receiver;
+        this.weakReceiver = null;
+        this.slot = slot;
+        this.priority = priority;
+    }
+
+    SlotConnection(final Receivers<S> receivers, final WeakReceiver<S> weakReceiver, final S slot,
+                   final int priority) {
+        this.receivers = receivers;
+        this.receiver = null;
+        this.weakReceiver = weakReceiver;
+        this.slot = slot;
+        this.priority = priority;
+    }
+
+    /**
+     * Returns the connected receiver, or <code>null</code> if a weakly referenced receiver was garbage collected.
+     */
+    S getReceiver() {
+        return weakReceiver != null ? weakReceiver.get() : receiver;
+    }
+
+    /**
+     * Tests if the receiver is weakly referenced only.
+     */
+    boolean isWeak() {
+        return weakReceiver != null;
+    }
+
+    /**
+     * Returns the slot called on emit, the receiver itself or a slot forwarding to it.
+     */
+    S getSlot() {
+        return slot;
+    }
+
+    /**
+     * Returns the priority, slots with higher priority are called first.
+     */
+    int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the chunk of the receivers holding this connection, or <code>null</code> if disconnected. Guarded by the
+     * receivers.
+     */
+    ReceiverChunk<S> getChunk() {
+        return chunk;
+    }
+
+    void setChunk(final ReceiverChunk<S> chunk) {
+        this.chunk = chunk;
+    }
+
+    /**
+     * Returns the position in the chunk. Guarded by the receivers.
+     */
+    int getIndex() {
+        return index;
+    }
+
+    void setIndex(final int index) {
+        this.index = index;
+    }
+
+    /**
+     * Sets the blocked state. Guarded by the receivers.
+     */
+    void setBlocked(final boolean blocked) {
+        this.blocked = blocked;
+    }
+
+    @Override
+    public void disconnect() {
+        receivers.remove(this);
+    }
+
+    @Override
+    public boolean isConnected() {
+        synchronized (receivers) {
+            return chunk != null;
+        }
+    }
+
+    @Override
+    public void block() {
+        receivers.setBlocked(this, true);
+    }
+
+    @Override
+    public void unblock() {
+        receivers.setBlocked(this, false);
+    }
+
+    @Override
+    public boolean isBlocked() {
+        synchronized (receivers) {
+            return blocked;
+        }
+    }
+
+}
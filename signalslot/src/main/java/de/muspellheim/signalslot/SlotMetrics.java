@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invocation count and latency histogram of a slot connected to a monitored signal.
+ * <p>The histogram has a bucket per power of two: bucket <code>i</code> counts the calls taking at least
+ * <code>2^(i-1)</code> and less than <code>2^i</code> nanoseconds, bucket 0 counts calls measured with 0
+ * nanoseconds. Recording a latency is lock free and allocates nothing.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public final class SlotMetrics {
+
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final String slot;
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    SlotMetrics(final String slot) {
+        this.slot = slot;
+    }
+
+    /**
+     * Returns the string representation of the slot.
+     */
+    public String getSlot() {
+        return slot;
+    }
+
+    public long getInvocationCount() {
+        return invocations.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public long getMeanNanos() {
+        final long count = getInvocationCount();
+        return count == 0 ? 0 : getTotalNanos() / count;
+    }
+
+    /**
+     * Returns the call counts per power of two of nanoseconds.
+     */
+    public long[] getLatencyHistogram() {
+        final long[] result = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            result[i] = histogram.get(i);
+        }
+        return result;
+    }
+
+    void record(final long durationNanos) {
+        final long nanos = Math.max(0, durationNanos);
+        invocations.increment();
+        totalNanos.add(nanos);
+        histogram.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(nanos));
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    void reset() {
+        invocations.reset();
+        totalNanos.reset();
+        maxNanos.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SlotMetrics[slot=" + slot + ", invocations=" + getInvocationCount() + ", meanNanos=" + getMeanNanos()
+                + ", maxNanos=" + getMaxNanos() + "]";
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A throttle passes at most one value per interval to a signal.
+ * <p>The first value passes immediately and opens the interval. Values received during the interval replace each
+ * other and the latest passes when the interval ends, which opens the next interval.</p>
+ *
+ * @param <T> value type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class ThrottleSlot1<T> implements Slot1<T> {
+
+    private static final Object NONE = new Object();
+
+    private final Signal1<T> target;
+    private final long intervalNanos;
+    private final TimerWheel timer;
+    private boolean open;
+    private Object pending = NONE;
+    private TimerWheel.Timeout timeout;
+    private boolean cancelled;
+
+    ThrottleSlot1(final Signal1<T> target, final long intervalNanos, final TimerWheel timer) {
+        this.target = target;
+        this.intervalNanos = intervalNanos;
+        this.timer = timer;
+    }
+
+    @Override
+    public void receive(final T value) {
+        synchronized (this) {
+            if (cancelled) {
+                return;
+            }
+            if (open) {
+                pending = value;
+                return;
+            }
+
+            open = true;
+            timeout = timer.schedule(this::intervalElapsed, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        target.emit(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void intervalElapsed() {
+        final Object value;
+        synchronized (this) {
+            if (pending == NONE) {
+                open = false;
+                return;
+            }
+
+            value = pending;
+            pending = NONE;
+            timeout = timer.schedule(this::intervalElapsed, intervalNanos, TimeUnit.NANOSECONDS);
+        }
+        target.emit((T) value);
+    }
+
+    /**
+     * Drops the pending value and cancels the timer, the throttle passes no more values.
+     */
+    synchronized void cancel() {
+        cancelled = true;
+        pending = NONE;
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+}
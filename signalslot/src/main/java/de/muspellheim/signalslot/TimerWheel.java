@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A hashed timer wheel running delayed tasks on one shared thread.
+ * <p>The wheel is an array of buckets, each bucket a linked list of timeouts. A timeout is put into the bucket of its
+ * deadline tick and counts down the rounds of the wheel until it expires. Scheduling and cancelling are O(1), the
+ * thread sleeps while there is nothing to do.</p>
+ * <p>Tasks run on the timer thread and should be short.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class TimerWheel implements Runnable {
+
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final Queue<Timeout> scheduled = new ConcurrentLinkedQueue<>();
+    private final Timeout[] buckets = new Timeout[WHEEL_SIZE];
+    private final long startTime = System.nanoTime();
+    private final Thread worker;
+    private volatile boolean idle;
+    private long tick;
+    private int count;
+
+    TimerWheel(final String name) {
+        worker = new Thread(this, name);
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Returns the timer wheel shared by all signals.
+     */
+    static TimerWheel getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Schedules a task to run once after the delay.
+     *
+     * @return the timeout to cancel the task
+     */
+    Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final Timeout timeout = new Timeout(task, elapsedNanos() + unit.toNanos(delay));
+        scheduled.add(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    @Override
+    public void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            if (count == 0 && scheduled.isEmpty()) {
+                idle = true;
+                if (scheduled.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                tick = currentTick();
+                continue;
+            }
+
+            waitForTick(tick);
+            transferScheduled();
+            expire(tick);
+            tick++;
+        }
+    }
+
+    private long elapsedNanos() {
+        return System.nanoTime() - startTime;
+    }
+
+    private long currentTick() {
+        return elapsedNanos() / TICK_NANOS;
+    }
+
+    private void waitForTick(final long ticks) {
+        final long deadline = (ticks + 1) * TICK_NANOS;
+        long sleep = deadline - elapsedNanos();
+        while (sleep > 0) {
+            LockSupport.parkNanos(this, sleep);
+            sleep = deadline - elapsedNanos();
+        }
+    }
+
+    private void transferScheduled() {
+        for (Timeout e = scheduled.poll(); e != null; e = scheduled.poll()) {
+            if (e.isCancelled()) {
+                continue;
+            }
+
+            final long deadlineTick = (e.deadline + TICK_NANOS - 1) / TICK_NANOS;
+            final long bucketTick = Math.max(deadlineTick, tick);
+            e.remainingRounds = (bucketTick - tick) / WHEEL_SIZE;
+            add(e, (int) (bucketTick & WHEEL_MASK));
+        }
+    }
+
+    private void expire(final long ticks) {
+        final int bucket = (int) (ticks & WHEEL_MASK);
+        Timeout timeout = buckets[bucket];
+        while (timeout != null) {
+            final Timeout next = timeout.next;
+            if (timeout.isCancelled()) {
+                remove(timeout, bucket);
+            } else if (timeout.remainingRounds <= 0) {
+                remove(timeout, bucket);
+                runTask(timeout.task);
+            } else {
+                timeout.remainingRounds--;
+            }
+            timeout = next;
+        }
+    }
+
+    private void add(final Timeout timeout, final int bucket) {
+        timeout.next = buckets[bucket];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        buckets[bucket] = timeout;
+        count++;
+    }
+
+    private void remove(final Timeout timeout, final int bucket) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        count--;
+    }
+
+    private static void runTask(final Runnable task) {
+        try {
+            task.run();
+        } catch (final RuntimeException e) {
+            // any task may fail, the other tasks still run
+            final Thread thread = Thread.currentThread();
+            thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+        }
+    }
+
+    /**
+     * A scheduled task.
+     */
+    static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private volatile boolean cancelled;
+        private long remainingRounds;
+        private Timeout prev;
+        private Timeout next;
+
+        Timeout(final Runnable task, final long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task, it will not run if it is not already running.
+         */
+        void cancel() {
+            cancelled = true;
+        }
+
+        boolean isCancelled() {
+            return cancelled;
+        }
+
+    }
+
+    /**
+     * Holds the lazily started default timer wheel.
+     */
+    private static final class DefaultHolder {
+
+        private static final TimerWheel INSTANCE = new TimerWheel("signalslot-timer");
+
+        private DefaultHolder() {
+        }
+
+    }
+
+}
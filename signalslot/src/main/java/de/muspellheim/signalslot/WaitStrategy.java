@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The strategy of a thread waiting for another thread, e.g. a producer waiting for a lagging consumer.
+ * <p>The strategies trade latency for CPU usage.</p>
+ *
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spins in a loop. Lowest latency, but keeps a CPU core busy while waiting.
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle(final int retries) {
+            // keep spinning
+        }
+    },
+
+    /**
+     * Spins for a while and yields the CPU to other threads then.
+     */
+    YIELDING {
+        @Override
+        public void idle(final int retries) {
+            if (retries >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    },
+
+    /**
+     * Spins for a while, yields for a while and sleeps a short time then. Highest latency, but uses almost no CPU
+     * while waiting.
+     */
+    SLEEPING {
+        @Override
+        public void idle(final int retries) {
+            if (retries >= SPIN_TRIES + YIELD_TRIES) {
+                LockSupport.parkNanos(SLEEP_NANOS);
+            } else if (retries >= SPIN_TRIES) {
+                Thread.yield();
+            }
+        }
+    };
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 100;
+    private static final long SLEEP_NANOS = 100_000;
+
+    /**
+     * Waits once, called again and again until the awaited condition is met.
+     *
+     * @param retries the number of previous calls while waiting for the current condition
+     */
+    public abstract void idle(int retries);
+
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+/**
+ * A weak reference to a connected receiver, which knows its connection to purge it after the receiver was garbage
+ * collected.
+ *
+ * @param <S> slot type
+ * @author Falko Schumann &lt;www.muspellheim.de&gt;
+ */
+final class WeakReceiver<S> extends WeakReference<S> {
+
+    private SlotConnection<S> connection;
+
+    WeakReceiver(final S receiver, final ReferenceQueue<Object> queue) {
+        super(receiver, queue);
+    }
+
+    SlotConnection<S> getConnection() {
+        return connection;
+    }
+
+    void setConnection(final SlotConnection<S> connection) {
+        this.connection = connection;
+    }
+
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+// Generates Signal2..Signal6 and Slot2..Slot6 from the templates in this directory.
+
+def templates = new File(project.basedir, 'src/main/templates')
+def target = new File(project.build.directory, 'generated-sources/signals/de/muspellheim/signalslot')
+target.mkdirs()
+
+def types = ['A', 'B', 'C', 'D', 'E', 'F']
+def ordinals = ['first', 'second', 'third', 'fourth', 'fifth', 'sixth']
+
+(2..6).each { n ->
+    def used = types.take(n)
+    def names = used.collect { it.toLowerCase() }
+    def tokens = [
+            '@N@'           : "$n",
+            '@TYPES@'       : used.join(', '),
+            '@PARAMS@'      : (0..<n).collect { "${used[it]} ${names[it]}" }.join(', '),
+            '@FINAL_PARAMS@': (0..<n).collect { "final ${used[it]} ${names[it]}" }.join(', '),
+            '@ARGS@'        : names.join(', '),
+            '@CASTS@'       : (0..<n).collect { "(${used[it]}) v[$it]" }.join(', '),
+            '@TYPE_DOCS@'   : (0..<n).collect { " * @param <${used[it]}> ${ordinals[it]} value type" }.join('\n'),
+    ]
+    ['Signal', 'Slot'].each { kind ->
+        def text = new File(templates, "${kind}N.java.template").getText('UTF-8')
+        tokens.each { token, value -> text = text.replace(token, value) }
+        new File(target, "${kind}${n}.java").setText(text, 'UTF-8')
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A signal emits a batch of values to plain slots and to batch slots.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class BatchEmitTest {
+
+    @Test
+    public void testEmitAll_Slot() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.emitAll(Arrays.asList("Foo", "Bar", "Baz"));
+
+        assertEquals(Arrays.asList("Foo", "Bar", "Baz"), received);
+    }
+
+    @Test
+    public void testEmitAll_BatchSlot() {
+        final Signal1<String> signal = new Signal1<>();
+        final Table table = new Table();
+        signal.connect(table);
+
+        signal.emitAll(Arrays.asList("Foo", "Bar", "Baz"));
+        signal.emit("Qux");
+
+        assertEquals(1, table.getInserts());
+        assertEquals(Arrays.asList("Foo", "Bar", "Baz", "Qux"), table.getRows());
+    }
+
+    @Test
+    public void testEmitAll_Array() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        final Table table = new Table();
+        signal.connect(received::add);
+        signal.connect(table);
+
+        signal.emitAll(new String[] {"Foo", "Bar"});
+
+        assertEquals(Arrays.asList("Foo", "Bar"), received);
+        assertEquals(1, table.getInserts());
+        assertEquals(Arrays.asList("Foo", "Bar"), table.getRows());
+    }
+
+    @Test
+    public void testEmitAll_ChainSignals() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        final Table table = new Table();
+        signal1.connect(signal2);
+        signal2.connect(table);
+
+        signal1.emitAll(Arrays.asList("Foo", "Bar"));
+
+        assertEquals(1, table.getInserts());
+        assertEquals(Arrays.asList("Foo", "Bar"), table.getRows());
+    }
+
+    @Test
+    public void testEmitAll_Blocked() {
+        final Signal1<String> signal = new Signal1<>();
+        final Table table = new Table();
+        signal.connect(table);
+
+        signal.setBlocked(true);
+        signal.emitAll(Arrays.asList("Foo", "Bar"));
+
+        assertEquals(0, table.getInserts());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testEmitAll_Null() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.emitAll((Iterable<String>) null);
+    }
+
+    /**
+     * This class inserts rows in bulk.
+     */
+    private static final class Table implements BatchSlot<String> {
+
+        private final List<String> rows = new ArrayList<>();
+        private int inserts;
+
+        @Override
+        public void receive(final String value) {
+            rows.add(value);
+        }
+
+        @Override
+        public void receiveAll(final Iterable<? extends String> values) {
+            inserts++;
+            for (String e : values) {
+                rows.add(e);
+            }
+        }
+
+        public List<String> getRows() {
+            return rows;
+        }
+
+        public int getInserts() {
+            return inserts;
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A blocked signal discards, queues or coalesces the emitted values.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class BlockModeTest {
+
+    @Test
+    public void testDiscard() {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.setBlocked(true);
+        signal.emit(1);
+        signal.emit(2);
+        signal.setBlocked(false);
+
+        assertEquals(BlockMode.DISCARD, signal.getBlockMode());
+        assertEquals(Collections.emptyList(), received);
+    }
+
+    @Test
+    public void testQueue() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.setBlockMode(BlockMode.QUEUE);
+        final List<Integer> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.setBlocked(true);
+        signal.emit(1);
+        signal.emitAll(Arrays.asList(2, 3));
+        assertEquals(Collections.emptyList(), received);
+        signal.setBlocked(false);
+
+        assertEquals(Arrays.asList(1, 2, 3), received);
+    }
+
+    @Test
+    public void testCoalesce() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.setBlockMode(BlockMode.COALESCE);
+        final List<Integer> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.setBlocked(true);
+        for (int i = 0; i < 1000; i++) {
+            signal.emit(i);
+        }
+        signal.setBlocked(false);
+        signal.setBlocked(false);
+
+        assertEquals(Arrays.asList(999), received);
+    }
+
+    @Test
+    public void testCoalesce_Signal0() {
+        final Signal0 signal = new Signal0();
+        signal.setBlockMode(BlockMode.COALESCE);
+        final int[] received = new int[1];
+        signal.connect(() -> received[0]++);
+
+        signal.setBlocked(true);
+        for (int i = 0; i < 1000; i++) {
+            signal.emit();
+        }
+        signal.setBlocked(false);
+
+        assertEquals(1, received[0]);
+    }
+
+    @Test
+    public void testQueue_IntSignal() {
+        final IntSignal signal = new IntSignal();
+        signal.setBlockMode(BlockMode.QUEUE);
+        final List<Integer> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.setBlocked(true);
+        signal.emit(1);
+        signal.emit(2);
+        signal.setBlocked(false);
+
+        assertEquals(Arrays.asList(1, 2), received);
+    }
+
+    @Test
+    public void testSignalBlocker() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.setBlockMode(BlockMode.COALESCE);
+        final List<String> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        try (SignalBlocker blocker = signal.block()) {
+            assertTrue(signal.isBlocked());
+            signal.emit("Foo");
+            signal.emit("Bar");
+        }
+
+        assertFalse(signal.isBlocked());
+        assertEquals(Arrays.asList("Bar"), received);
+    }
+
+    @Test
+    public void testSignalBlocker_Nested() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.setBlockMode(BlockMode.QUEUE);
+        final List<String> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        try (SignalBlocker outer = signal.block()) {
+            try (SignalBlocker inner = signal.block()) {
+                signal.emit("Foo");
+            }
+            assertTrue(signal.isBlocked());
+            signal.emit("Bar");
+        }
+
+        assertEquals(Arrays.asList("Foo", "Bar"), received);
+    }
+
+    @Test
+    public void testQueue_NestedSignal() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        signal2.setBlockMode(BlockMode.QUEUE);
+        final List<String> received = new ArrayList<>();
+        signal1.connect(signal2);
+        signal2.connect(received::add);
+
+        signal2.setBlocked(true);
+        signal1.emit("Foo");
+        signal2.setBlocked(false);
+        signal1.emit("Bar");
+
+        assertEquals(Arrays.asList("Foo", "Bar"), received);
+    }
+
+}
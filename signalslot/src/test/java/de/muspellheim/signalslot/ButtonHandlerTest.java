@@ -7,6 +7,10 @@ package de.muspellheim.signalslot;
 
 import org.junit.Test;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.*;
 
 /**
@@ -82,7 +86,7 @@ public final class ButtonHandlerTest {
 
         assertTrue(h.isHandled());
 
-        // TODO Workaround: to disconnect a slot, we must remember the method reference
+        // Without connection: to disconnect a slot, we must remember the method reference
         h.reset();
         b.clicked().disconnect(slot);
         b.clicked().emit();
@@ -100,7 +104,7 @@ public final class ButtonHandlerTest {
 
         assertTrue(h.isHandled());
 
-        // TODO Workaround: to disconnect a slot, we must have reference a slot instance
+        // Without connection: to disconnect a slot, we must have reference a slot instance
         h.reset();
         b.clicked().disconnect(h.getHandle());
         b.clicked().emit();
@@ -108,6 +112,24 @@ public final class ButtonHandlerTest {
         assertFalse(h.isHandled());
     }
 
+    @Test
+    public void testDisconnect_Connection() {
+        final Button b = new Button();
+        final Handler h = new Handler();
+        final Connection connection = b.clicked().connect(h::handle);
+
+        b.clicked().emit();
+
+        assertTrue(h.isHandled());
+
+        h.reset();
+        connection.disconnect();
+        b.clicked().emit();
+
+        assertFalse(h.isHandled());
+        assertFalse(connection.isConnected());
+    }
+
     @Test
     public void testBlockSignal() {
         final Button b = new Button();
@@ -131,6 +153,35 @@ public final class ButtonHandlerTest {
         assertTrue(h.isHandled());
     }
 
+    @Test
+    public void testQueuedConnection() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Button b = new Button();
+        final Handler h = new Handler();
+        b.clicked().connect(h::handle, executor);
+
+        b.clicked().emit();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertTrue(h.isHandled());
+    }
+
+    @Test
+    public void testDisconnectQueuedConnection() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Button b = new Button();
+        final Handler h = new Handler();
+        b.clicked().connect(h.getHandle(), executor);
+
+        b.clicked().disconnect(h.getHandle());
+        b.clicked().emit();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertFalse(h.isHandled());
+    }
+
     /**
      * This class represents a button.
      */
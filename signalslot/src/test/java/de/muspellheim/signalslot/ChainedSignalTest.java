@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Signals connected to signals are flattened into one dispatch plan.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ChainedSignalTest {
+
+    private static final int DEEP = 100_000;
+
+    @Test
+    public void testDeepChain() {
+        final List<Signal1<String>> chain = chain(DEEP);
+        final List<String> received = new ArrayList<>();
+        chain.get(DEEP - 1).connect(received::add);
+
+        chain.get(0).emit("Foo");
+
+        assertEquals(Arrays.asList("Foo"), received);
+    }
+
+    @Test
+    public void testDeepChain_Int() {
+        final IntSignal first = new IntSignal();
+        IntSignal last = first;
+        for (int i = 1; i < DEEP; i++) {
+            final IntSignal next = new IntSignal();
+            last.connect(next);
+            last = next;
+        }
+        final int[] received = new int[1];
+        last.connect(v -> { received[0] = v; });
+
+        first.emit(42);
+
+        assertEquals(42, received[0]);
+    }
+
+    @Test
+    public void testOrderOfSlots() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal1.connect(v -> received.add("a" + v));
+        signal1.connect(signal2);
+        signal1.connect(v -> received.add("c" + v));
+        signal2.connect(v -> received.add("b" + v));
+
+        signal1.emit("1");
+
+        assertEquals(Arrays.asList("a1", "b1", "c1"), received);
+    }
+
+    @Test
+    public void testConnectToNestedSignal() {
+        final List<Signal1<String>> chain = chain(10);
+        final List<String> received = new ArrayList<>();
+        chain.get(0).emit("Foo");
+
+        chain.get(5).connect(received::add);
+        chain.get(0).emit("Bar");
+
+        assertEquals(Arrays.asList("Bar"), received);
+    }
+
+    @Test
+    public void testDisconnectNestedSignal() {
+        final List<Signal1<String>> chain = chain(10);
+        final List<String> received = new ArrayList<>();
+        chain.get(9).connect(received::add);
+        chain.get(0).emit("Foo");
+
+        chain.get(4).disconnect(chain.get(5));
+        chain.get(0).emit("Bar");
+
+        assertEquals(Arrays.asList("Foo"), received);
+    }
+
+    @Test
+    public void testBlockNestedSignal() {
+        final List<Signal1<String>> chain = chain(10);
+        final List<String> received = new ArrayList<>();
+        chain.get(9).connect(received::add);
+
+        chain.get(5).setBlocked(true);
+        chain.get(0).emit("Foo");
+        chain.get(5).setBlocked(false);
+        chain.get(0).emit("Bar");
+
+        assertEquals(Arrays.asList("Bar"), received);
+    }
+
+    @Test
+    public void testBlockNestedConnection() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal1.connect(signal2);
+        final Connection connection = signal2.connect(received::add);
+
+        connection.block();
+        signal1.emit("Foo");
+        connection.unblock();
+        signal1.emit("Bar");
+
+        assertEquals(Arrays.asList("Bar"), received);
+    }
+
+    @Test
+    public void testDiamond() {
+        final Signal1<String> source = new Signal1<>();
+        final Signal1<String> left = new Signal1<>();
+        final Signal1<String> right = new Signal1<>();
+        final Signal1<String> target = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        source.connect(left);
+        source.connect(right);
+        left.connect(target);
+        right.connect(target);
+        target.connect(received::add);
+
+        source.emit("Foo");
+
+        assertEquals(Arrays.asList("Foo", "Foo"), received);
+    }
+
+    @Test
+    public void testKeepDispatchPlanOnChangeOfUnrelatedSignal() {
+        final List<Signal1<String>> chain = chain(5);
+        chain.get(4).connect(v -> { });
+        final Slot1<String>[][] segments = chain.get(0).getSegments();
+
+        final Signal1<String> unrelated = new Signal1<>();
+        final Slot1<String> slot = v -> { };
+        unrelated.connect(slot);
+        unrelated.disconnect(slot);
+        unrelated.setBlocked(true);
+
+        assertSame(segments, chain.get(0).getSegments());
+    }
+
+    @Test
+    public void testCompileDispatchPlanOnChangeOfDeeplyNestedSignal() {
+        final List<Signal1<String>> chain = chain(5);
+        final List<String> received = new ArrayList<>();
+        final Slot1<String>[][] segments = chain.get(0).getSegments();
+
+        chain.get(4).connect(received::add);
+
+        assertNotSame(segments, chain.get(0).getSegments());
+        chain.get(0).emit("Foo");
+        assertEquals(Collections.singletonList("Foo"), received);
+    }
+
+    private static List<Signal1<String>> chain(final int length) {
+        final List<Signal1<String>> result = new ArrayList<>(length);
+        result.add(new Signal1<>());
+        for (int i = 1; i < length; i++) {
+            final Signal1<String> next = new Signal1<>();
+            result.get(i - 1).connect(next);
+            result.add(next);
+        }
+        return result;
+    }
+
+}
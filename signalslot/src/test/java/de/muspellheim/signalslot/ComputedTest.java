@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Computed values are computed lazily and invalidated incrementally.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ComputedTest {
+
+    @Test
+    public void testComputeLazily() {
+        final IntProperty a = new IntProperty(1);
+        final IntProperty b = new IntProperty(2);
+        final int[] computations = new int[1];
+        final Computed<Integer> sum = new Computed<>(() -> count(computations, a.getValue() + b.getValue()), a, b);
+        assertEquals(0, computations[0]);
+
+        assertEquals(3, (int) sum.getValue());
+        assertEquals(3, (int) sum.getValue());
+        assertEquals(1, computations[0]);
+
+        a.setValue(10);
+        b.setValue(20);
+        assertFalse(sum.isValid());
+        assertEquals(1, computations[0]);
+
+        assertEquals(30, (int) sum.getValue());
+        assertEquals(2, computations[0]);
+    }
+
+    @Test
+    public void testInvalidateIncrementally() {
+        final Property<String> name = new Property<>("Foo");
+        final Computed<String> upper = new Computed<>(() -> name.getValue().toUpperCase(), name);
+        final Computed<Integer> length = new Computed<>(() -> upper.getValue().length(), upper);
+        final int[] invalidated = new int[1];
+        length.invalidated().connect(() -> invalidated[0]++);
+        assertEquals(3, (int) length.getValue());
+
+        name.setValue("Bar");
+        name.setValue("Foobar");
+
+        assertEquals(1, invalidated[0]);
+        assertFalse(upper.isValid());
+        assertEquals(6, (int) length.getValue());
+        assertTrue(upper.isValid());
+    }
+
+    @Test
+    public void testValueChanged() {
+        final IntProperty a = new IntProperty(1);
+        final Computed<Boolean> even = new Computed<>(() -> a.getValue() % 2 == 0, a);
+        final List<Boolean> received = new ArrayList<>();
+        even.valueChanged().connect(received::add);
+
+        a.setValue(2);
+        a.setValue(4);
+        a.setValue(5);
+
+        assertEquals(Arrays.asList(true, false), received);
+    }
+
+    @Test
+    public void testValueChanged_UnchangedAfterInvalid() {
+        final IntProperty a = new IntProperty(1);
+        final Computed<Boolean> even = new Computed<>(() -> a.getValue() % 2 == 0, a);
+        assertFalse(even.getValue());
+        a.setValue(3);
+        assertFalse(even.isValid());
+        final List<Boolean> received = new ArrayList<>();
+        even.valueChanged().connect(received::add);
+
+        a.setValue(5);
+        a.setValue(6);
+
+        assertEquals(Arrays.asList(true), received);
+    }
+
+    private static int count(final int[] counter, final int value) {
+        counter[0]++;
+        return value;
+    }
+
+}
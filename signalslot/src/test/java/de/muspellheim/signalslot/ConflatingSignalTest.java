@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * A slow slot connected to a conflating signal receives only the latest value.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ConflatingSignalTest {
+
+    @Test
+    public void testSlowSlotReceivesLatestValue() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ConflatingSignal1<Integer> signal = new ConflatingSignal1<>();
+        final SlowSlot slot = new SlowSlot();
+        signal.connect(slot, executor);
+
+        signal.emit(0);
+        assertTrue(slot.called.await(1, TimeUnit.SECONDS));
+        for (int i = 1; i < 100; i++) {
+            signal.emit(i);
+        }
+        slot.released.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(Arrays.asList(0, 99), slot.received);
+    }
+
+    @Test
+    public void testDirectSlotReceivesAllValues() {
+        final ConflatingSignal1<Integer> signal = new ConflatingSignal1<>();
+        final List<Integer> received = new ArrayList<>();
+        signal.connect(received::add);
+
+        signal.emit(1);
+        signal.emit(2);
+
+        assertEquals(Arrays.asList(1, 2), received);
+    }
+
+    @Test
+    public void testLatestValueIsNull() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final ConflatingSignal1<String> signal = new ConflatingSignal1<>();
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+        signal.connect(received::add, executor);
+
+        signal.emit(null);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(Collections.singletonList(null), received);
+    }
+
+    /**
+     * A slot which blocks on the first value until released.
+     */
+    private static final class SlowSlot implements Slot1<Integer> {
+
+        private final CountDownLatch called = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void receive(final Integer value) {
+            received.add(value);
+            called.countDown();
+            try {
+                released.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+    }
+
+}
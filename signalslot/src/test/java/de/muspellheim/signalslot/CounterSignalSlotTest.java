@@ -0,0 +1,402 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Ported Qt simple example of signals and slots to Java.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class CounterSignalSlotTest {
+
+    @Test
+    public void testCounter() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connect(b::setValue);
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        b.setValue(48);
+        assertEquals(12, a.getValue());
+        assertEquals(48, b.getValue());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConnectNull() {
+        final Counter a = new Counter();
+        a.valueChanged.connect(null);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDisconnectNull() {
+        final Counter a = new Counter();
+        a.valueChanged.disconnect(null);
+    }
+
+    @Test
+    public void testChainSignals() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Counter c = new Counter();
+        a.valueChanged().connect(b::setValue);
+        b.valueChanged().connect(c::setValue);
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+        assertEquals(12, c.getValue());
+    }
+
+    @Test
+    public void testChainSignals_Variant() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+
+        signal1.connect(signal2);
+        signal2.connect(s -> assertTrue("Foo".equals(s)));
+
+        signal1.emit("Foo");
+    }
+
+
+    @Test
+    public void testSetSameValue_SecondTryEmitNoSignal() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Counter c = new Counter();
+
+        a.valueChanged().connect(b::setValue);
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        a.valueChanged().connect(c::setValue);
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(0, c.getValue());
+    }
+
+    @Test(expected = AssertionError.class)
+    public void testBehaviourIdentity() {
+        final Counter a = new Counter();
+        final Slot1<Integer> s1 = a::setValue;
+        final Slot1<Integer> s2 = a::setValue;
+
+        assertSame(s1, s2);
+    }
+
+
+    @Test(expected = AssertionError.class)
+    public void testBehaviourEquality() {
+        final Counter a = new Counter();
+        final Slot1<Integer> s1 = a::setValue;
+        final Slot1<Integer> s2 = a::setValue;
+
+        assertEquals(s1, s2);
+    }
+
+    @Test
+    public void testDisconnect() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Slot1<Integer> slot = b::setValue;
+        a.valueChanged().connect(slot);
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        // Without connection: to disconnect a slot, we must remember the method reference
+        a.valueChanged().disconnect(slot);
+        a.setValue(42);
+        assertEquals(42, a.getValue());
+        assertEquals(12, b.getValue());
+    }
+
+    @Test
+    public void testDisconnect_Variant() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connect(b.setValue());
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        // Without connection: to disconnect a slot, we must have reference a slot instance
+        a.valueChanged().disconnect(b.setValue());
+        a.setValue(42);
+        assertEquals(42, a.getValue());
+        assertEquals(12, b.getValue());
+    }
+
+    @Test
+    public void testDisconnect_Connection() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Connection connection = a.valueChanged().connect(b::setValue);
+
+        a.setValue(12);
+        assertTrue(connection.isConnected());
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        connection.disconnect();
+        a.setValue(42);
+        assertFalse(connection.isConnected());
+        assertEquals(42, a.getValue());
+        assertEquals(12, b.getValue());
+    }
+
+    @Test
+    public void testDisconnect_ConnectionTwice() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Counter c = new Counter();
+        final Connection connection = a.valueChanged().connect(b::setValue);
+        a.valueChanged().connect(c::setValue);
+
+        connection.disconnect();
+        connection.disconnect();
+        a.setValue(12);
+
+        assertEquals(0, b.getValue());
+        assertEquals(12, c.getValue());
+    }
+
+    @Test
+    public void testDisconnect_SlotDisconnectsConnection() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Connection connection = a.valueChanged().connect(b.setValue());
+
+        a.valueChanged().disconnect(b.setValue());
+
+        assertFalse(connection.isConnected());
+    }
+
+    @Test
+    public void testBlockConnection() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        final Counter c = new Counter();
+        final Connection connection = a.valueChanged().connect(b::setValue);
+        a.valueChanged().connect(c::setValue);
+
+        connection.block();
+        a.setValue(42);
+        assertTrue(connection.isBlocked());
+        assertEquals(0, b.getValue());
+        assertEquals(42, c.getValue());
+
+        connection.unblock();
+        a.setValue(24);
+        assertFalse(connection.isBlocked());
+        assertEquals(24, b.getValue());
+        assertEquals(24, c.getValue());
+    }
+
+    @Test
+    public void testBlockSignal() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connect(b::setValue);
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        a.valueChanged().setBlocked(true);
+        a.setValue(42);
+        assertEquals(42, a.getValue());
+        assertEquals(12, b.getValue());
+
+        a.valueChanged().setBlocked(false);
+        a.setValue(24);
+        assertEquals(24, a.getValue());
+        assertEquals(24, b.getValue());
+    }
+
+    @Test
+    public void testQueuedConnection() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connect(b.setValue(), executor);
+
+        a.setValue(12);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+    }
+
+    @Test
+    public void testQueuedConnection_KeepOrder() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        signal.connect(received::add, executor);
+
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expected.add(i);
+            signal.emit(i);
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(expected, received);
+    }
+
+    @Test
+    public void testQueuedConnection_DoNotWaitForSlot() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final CountDownLatch slotCalled = new CountDownLatch(1);
+        final CountDownLatch slotReleased = new CountDownLatch(1);
+        final Signal1<String> signal = new Signal1<>();
+        signal.connect(s -> await(slotCalled, slotReleased), executor);
+
+        signal.emit("Foo");
+        signal.emit("Bar");
+        assertTrue(slotCalled.await(1, TimeUnit.SECONDS));
+
+        slotReleased.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+    }
+
+    private static void await(final CountDownLatch called, final CountDownLatch released) {
+        called.countDown();
+        try {
+            released.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testQueuedConnection_RejectedExecution() {
+        final RejectingExecutor executor = new RejectingExecutor();
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect(received::add, executor);
+
+        executor.rejecting = true;
+        try {
+            signal.emit("Foo");
+            fail("RejectedExecutionException expected");
+        } catch (final RejectedExecutionException expected) {
+            assertEquals("rejected", expected.getMessage());
+        }
+        executor.rejecting = false;
+        signal.emit("Bar");
+
+        assertEquals(Collections.singletonList("Bar"), received);
+    }
+
+    @Test
+    public void testQueuedConnection_RejectedExecutionOfEvent() {
+        final RejectingExecutor executor = new RejectingExecutor();
+        final Signal0 signal = new Signal0();
+        final int[] received = new int[1];
+        signal.connect(() -> received[0]++, executor);
+
+        executor.rejecting = true;
+        try {
+            signal.emit();
+            fail("RejectedExecutionException expected");
+        } catch (final RejectedExecutionException expected) {
+            assertEquals("rejected", expected.getMessage());
+        }
+        executor.rejecting = false;
+        signal.emit();
+
+        assertEquals(1, received[0]);
+    }
+
+    @Test
+    public void testDisconnectQueuedConnection() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connect(b.setValue(), executor);
+
+        a.valueChanged().disconnect(b.setValue());
+        a.setValue(12);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(12, a.getValue());
+        assertEquals(0, b.getValue());
+    }
+
+    /**
+     * Runs the tasks in the calling thread or rejects them.
+     */
+    private static final class RejectingExecutor implements Executor {
+
+        private boolean rejecting;
+
+        @Override
+        public void execute(final Runnable command) {
+            if (rejecting) {
+                throw new RejectedExecutionException("rejected");
+            }
+            command.run();
+        }
+
+    }
+
+    /**
+     * This class holds a integer value.
+     */
+    public static final class Counter {
+
+        private final Signal1<Integer> valueChanged = new Signal1<>();
+        private int value;
+        private Slot1<Integer> valueSlot = this::setValue;
+
+        public int getValue() {
+            return value;
+        }
+
+        public void setValue(final int value) {
+            if (value != this.value) {
+                this.value = value;
+                valueChanged().emit(value);
+            }
+        }
+
+        public Signal1<Integer> valueChanged() {
+            return valueChanged;
+        }
+
+        public Slot1<Integer> setValue() {
+            return valueSlot;
+        }
+
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Emitting a signal must not allocate any memory.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class EmitAllocationTest {
+
+    private static final int EMITS = 100_000;
+    private static final int FAN_OUT = 10;
+    // tolerates a few bytes allocated once while measuring, but no object allocated per emit
+    private static final double MAX_BYTES_PER_EMIT = 0.01;
+
+    private com.sun.management.ThreadMXBean threadBean;
+    private long received;
+
+    @Before
+    public void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    public void testSignal0() {
+        final Signal0 signal = new Signal0();
+        for (int i = 0; i < FAN_OUT; i++) {
+            signal.connect(() -> received++);
+        }
+
+        assertEquals(0.0, allocatedBytesPerEmit(signal::emit), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testSignal1() {
+        final Signal1<Integer> signal = new Signal1<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            signal.connect(this::add);
+        }
+        final Integer value = 42;
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal.emit(value)), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testSignal1_Chunked() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        for (int i = 0; i < Receivers.CHUNK_CAPACITY * 3; i++) {
+            signal.connect(this::add);
+        }
+        final Integer value = 42;
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal.emit(value)), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testChainedSignal1() {
+        final Signal1<Integer> signal1 = new Signal1<>();
+        final Signal1<Integer> signal2 = new Signal1<>();
+        signal1.connect(signal2);
+        for (int i = 0; i < FAN_OUT; i++) {
+            signal2.connect(this::add);
+        }
+        final Integer value = 42;
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal1.emit(value)), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testIntSignal() {
+        final IntSignal signal = new IntSignal();
+        for (int i = 0; i < FAN_OUT; i++) {
+            signal.connect(this::add);
+        }
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal.emit(4242)), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testIntSignal_BlockedDiscard() {
+        final IntSignal signal = new IntSignal();
+        signal.connect(this::add);
+        signal.setBlocked(true);
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal.emit(4242)), MAX_BYTES_PER_EMIT);
+    }
+
+    @Test
+    public void testSignal3() {
+        final Signal3<Integer, Integer, Integer> signal = new Signal3<>();
+        for (int i = 0; i < FAN_OUT; i++) {
+            signal.connect((a, b, c) -> add(a));
+        }
+        final Integer value = 42;
+
+        assertEquals(0.0, allocatedBytesPerEmit(() -> signal.emit(value, value, value)), MAX_BYTES_PER_EMIT);
+    }
+
+    private void add(final int value) {
+        received += value;
+    }
+
+    private double allocatedBytesPerEmit(final Runnable emit) {
+        // warm up, so class loading and compilation do not count
+        for (int i = 0; i < EMITS; i++) {
+            emit.run();
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long start = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < EMITS; i++) {
+            emit.run();
+        }
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - start;
+        return (double) allocated / EMITS;
+    }
+
+}
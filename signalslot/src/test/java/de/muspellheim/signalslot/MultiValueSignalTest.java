@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Signals with up to six values pass them as separate arguments.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class MultiValueSignalTest {
+
+    @Test
+    public void testSignal2() {
+        final Signal2<String, Integer> signal = new Signal2<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect((s, i) -> received.add(s + i));
+
+        signal.emit("Foo", 42);
+
+        assertEquals(Arrays.asList("Foo42"), received);
+    }
+
+    @Test
+    public void testSignal6() {
+        final Signal6<Integer, Integer, Integer, Integer, Integer, Integer> signal = new Signal6<>();
+        final int[] received = new int[1];
+        signal.connect((a, b, c, d, e, f) -> { received[0] = a + b + c + d + e + f; });
+
+        signal.emit(1, 2, 3, 4, 5, 6);
+
+        assertEquals(21, received[0]);
+    }
+
+    @Test
+    public void testChainSignals() {
+        final Signal3<String, String, String> signal1 = new Signal3<>();
+        final Signal3<String, String, String> signal2 = new Signal3<>();
+        final List<String> received = new ArrayList<>();
+        signal1.connect(signal2);
+        signal2.connect((a, b, c) -> received.add(a + b + c));
+
+        signal1.emit("a", "b", "c");
+
+        assertEquals(Arrays.asList("abc"), received);
+    }
+
+    @Test
+    public void testDisconnect() {
+        final Signal2<String, String> signal = new Signal2<>();
+        final List<String> received = new ArrayList<>();
+        final Slot2<String, String> slot = (a, b) -> received.add(a + b);
+        signal.connect(slot);
+        signal.emit("a", "b");
+
+        signal.disconnect(slot);
+        signal.emit("c", "d");
+
+        assertEquals(Arrays.asList("ab"), received);
+    }
+
+    @Test
+    public void testBlockedQueue() {
+        final Signal2<String, Integer> signal = new Signal2<>();
+        signal.setBlockMode(BlockMode.QUEUE);
+        final List<String> received = new ArrayList<>();
+        signal.connect((s, i) -> received.add(s + i));
+
+        try (SignalBlocker blocker = signal.block()) {
+            signal.emit("a", 1);
+            signal.emit("b", 2);
+        }
+
+        assertEquals(Arrays.asList("a1", "b2"), received);
+    }
+
+    @Test
+    public void testQueuedConnection() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final Signal4<String, String, String, String> signal = new Signal4<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect((a, b, c, d) -> received.add(a + b + c + d), executor);
+
+        signal.emit("a", "b", "c", "d");
+        signal.emit("e", "f", "g", "h");
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.SECONDS));
+
+        assertEquals(Arrays.asList("abcd", "efgh"), received);
+    }
+
+    @Test
+    public void testMonitored() {
+        final Signal5<String, String, String, String, String> signal = new Signal5<>();
+        signal.connect((a, b, c, d, e) -> { });
+        final SignalMetrics metrics = signal.enableMetrics("testMonitored");
+        try {
+            signal.emit("a", "b", "c", "d", "e");
+
+            assertEquals(1, metrics.getEmissionCount());
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Above the threshold a signal calls its slots in parallel on a fork join pool.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ParallelEmitTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final AtomicInteger received = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void testParallelEmit() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 100);
+        for (int i = 0; i < 1000; i++) {
+            signal.connect(received::addAndGet);
+        }
+
+        signal.emit(2);
+
+        assertEquals(2000, received.get());
+    }
+
+    @Test
+    public void testParallelEmit_SlotsRunConcurrently() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 4);
+        final CyclicBarrier barrier = new CyclicBarrier(4);
+        for (int i = 0; i < 4; i++) {
+            signal.connect(v -> await(barrier));
+        }
+
+        signal.emit("Foo");
+
+        assertEquals(4, received.get());
+    }
+
+    @Test
+    public void testParallelEmit_ChunkedStore() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        signal.enableParallelEmit(pool, 100);
+        for (int i = 0; i < 1000; i++) {
+            signal.connect(received::addAndGet);
+        }
+
+        signal.emit(1);
+
+        assertEquals(1000, received.get());
+    }
+
+    @Test
+    public void testBelowThreshold() {
+        final Signal1<Thread> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 100);
+        for (int i = 0; i < 10; i++) {
+            signal.connect(v -> assertSame(v, Thread.currentThread()));
+        }
+
+        signal.emit(Thread.currentThread());
+    }
+
+    @Test
+    public void testDisableParallelEmit() {
+        final Signal1<Thread> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 1);
+        signal.connect(v -> assertSame(v, Thread.currentThread()));
+
+        signal.disableParallelEmit();
+        signal.emit(Thread.currentThread());
+    }
+
+    @Test
+    public void testExceptionsAggregated() {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 2);
+        for (int i = 0; i < 10; i++) {
+            final int id = i;
+            signal.connect(v -> receiveOrThrow(id % 3 == 0, "Slot " + id));
+        }
+
+        try {
+            signal.emit(1);
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException expected) {
+            assertEquals(3, expected.getSuppressed().length);
+            assertEquals(6, received.get());
+        }
+    }
+
+    @Test
+    public void testEmitAsync() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        signal.enableParallelEmit(pool, 100);
+        for (int i = 0; i < 1000; i++) {
+            signal.connect(received::addAndGet);
+        }
+
+        final CompletableFuture<Void> completion = signal.emitAsync(3);
+
+        completion.get(10, TimeUnit.SECONDS);
+        assertEquals(3000, received.get());
+    }
+
+    @Test
+    public void testEmitAsync_Exception() throws Exception {
+        final Signal1<String> signal = new Signal1<>();
+        signal.connect(v -> receiveOrThrow(true, v));
+
+        try {
+            signal.emitAsync("Foo").get(10, TimeUnit.SECONDS);
+            fail("ExecutionException expected");
+        } catch (final ExecutionException expected) {
+            assertTrue(expected.getCause() instanceof IllegalStateException);
+            assertEquals("Foo", expected.getCause().getMessage());
+        }
+    }
+
+    private void receiveOrThrow(final boolean fail, final String message) {
+        if (fail) {
+            throw new IllegalStateException(message);
+        }
+        received.incrementAndGet();
+    }
+
+    private void await(final CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+            received.incrementAndGet();
+        } catch (final InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Slots with higher priority are called first.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class PriorityTest {
+
+    @Test
+    public void testPriorityOrder() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect(v -> received.add("log"), -10);
+        signal.connect(v -> received.add("ui"));
+        signal.connect(v -> received.add("risk"), 100);
+        signal.connect(v -> received.add("cache"), 50);
+        signal.connect(v -> received.add("audit"), 100);
+
+        signal.emit("Foo");
+
+        assertEquals(Arrays.asList("risk", "audit", "cache", "ui", "log"), received);
+    }
+
+    @Test
+    public void testDisconnectKeepsOrder() {
+        final Signal0 signal = new Signal0();
+        final List<String> received = new ArrayList<>();
+        signal.connect(() -> received.add("low"), -1);
+        final Connection connection = signal.connect(() -> received.add("middle"));
+        signal.connect(() -> received.add("high"), 1);
+
+        connection.disconnect();
+        signal.connect(() -> received.add("new"));
+        signal.emit();
+
+        assertEquals(Arrays.asList("high", "new", "low"), received);
+    }
+
+    @Test
+    public void testNestedSignal() {
+        final IntSignal signal1 = new IntSignal();
+        final IntSignal signal2 = new IntSignal();
+        final List<String> received = new ArrayList<>();
+        signal1.connect(v -> received.add("last"));
+        signal1.connect(signal2, 1);
+        signal2.connect(v -> received.add("nested"));
+
+        signal1.emit(42);
+
+        assertEquals(Arrays.asList("nested", "last"), received);
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+/**
+ * Cycles are rejected on connect and topological propagation calls each signal once.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class PropagationTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConnectToItself() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.connect(signal);
+    }
+
+    @Test
+    public void testConnectCycle() {
+        final Signal1<String> a = new Signal1<>();
+        final Signal1<String> b = new Signal1<>();
+        final Signal1<String> c = new Signal1<>();
+        a.connect(b);
+        final Connection connection = b.connect(c);
+        connection.block();
+
+        try {
+            c.connect(a);
+            fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException expected) {
+            assertEquals(0, c.getSegments().length);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConnectWeakCycle() {
+        final Signal1<Integer> x = new Signal1<>();
+        final Signal1<Integer> y = new Signal1<>();
+        x.connect(y);
+
+        y.connectWeak(x);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testConnectCycleThroughWeakConnection() {
+        final Signal1<Integer> x = new Signal1<>();
+        final Signal1<Integer> y = new Signal1<>();
+        y.connectWeak(x);
+
+        x.connect(y);
+    }
+
+    @Test
+    public void testConnectCycleConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int i = 0; i < 1000; i++) {
+                final Signal1<Integer> a = new Signal1<>();
+                final Signal1<Integer> b = new Signal1<>();
+                final CyclicBarrier barrier = new CyclicBarrier(2);
+
+                final List<Future<Boolean>> results = executor.invokeAll(Arrays.asList(
+                        () -> tryConnect(a, b, barrier), () -> tryConnect(b, a, barrier)));
+
+                assertNotEquals(results.get(0).get(), results.get(1).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testDiamond_DepthFirst() {
+        final Diamond diamond = new Diamond();
+
+        diamond.a.emit("Foo");
+
+        assertEquals(Arrays.asList("b:Foo", "d:Foo", "c:Foo", "d:Foo"), diamond.received);
+    }
+
+    @Test
+    public void testDiamond_Topological() {
+        final Diamond diamond = new Diamond();
+        diamond.a.setPropagation(Propagation.TOPOLOGICAL);
+
+        diamond.a.emit("Foo");
+
+        assertEquals(Arrays.asList("b:Foo", "c:Foo", "d:Foo"), diamond.received);
+    }
+
+    @Test
+    public void testTopological_Invalidate() {
+        final Diamond diamond = new Diamond();
+        diamond.a.setPropagation(Propagation.TOPOLOGICAL);
+        diamond.a.emit("Foo");
+        diamond.received.clear();
+
+        diamond.c.setBlocked(true);
+        diamond.a.emit("Bar");
+
+        assertEquals(Arrays.asList("b:Bar", "d:Bar"), diamond.received);
+    }
+
+    @Test
+    public void testTopological_LongerPath() {
+        final Signal1<String> a = new Signal1<>();
+        final Signal1<String> b = new Signal1<>();
+        final Signal1<String> c = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        a.setPropagation(Propagation.TOPOLOGICAL);
+        a.connect(c);
+        a.connect(b);
+        b.connect(c);
+        b.connect(v -> received.add("b:" + v));
+        c.connect(v -> received.add("c:" + v));
+
+        a.emit("Foo");
+
+        assertEquals(Arrays.asList("b:Foo", "c:Foo"), received);
+    }
+
+    private static boolean tryConnect(final Signal1<Integer> source, final Signal1<Integer> target,
+                                      final CyclicBarrier barrier) throws Exception {
+        barrier.await();
+        try {
+            source.connect(target);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Signal <code>a</code> is connected to <code>b</code> and <code>c</code>, both are connected to <code>d</code>.
+     */
+    private static final class Diamond {
+
+        private final Signal1<String> a = new Signal1<>();
+        private final Signal1<String> b = new Signal1<>();
+        private final Signal1<String> c = new Signal1<>();
+        private final Signal1<String> d = new Signal1<>();
+        private final List<String> received = new ArrayList<>();
+
+        Diamond() {
+            a.connect(b);
+            a.connect(c);
+            b.connect(v -> received.add("b:" + v));
+            b.connect(d);
+            c.connect(v -> received.add("c:" + v));
+            c.connect(d);
+            d.connect(v -> received.add("d:" + v));
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Properties replace the hand written counter of the Qt example.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class PropertyTest {
+
+    @Test
+    public void testCounter() {
+        final IntProperty a = new IntProperty();
+        final IntProperty b = new IntProperty();
+        a.valueChanged().connect(b);
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+
+        b.setValue(48);
+        assertEquals(12, a.getValue());
+        assertEquals(48, b.getValue());
+    }
+
+    @Test
+    public void testEmitOnlyChanges() {
+        final Property<String> property = new Property<>("Foo");
+        final List<String> received = new ArrayList<>();
+        final int[] invalidated = new int[1];
+        property.valueChanged().connect(received::add);
+        property.invalidated().connect(() -> invalidated[0]++);
+
+        property.setValue("Foo");
+        property.setValue("Bar");
+        property.setValue("Bar");
+        property.setValue(null);
+
+        assertEquals(Arrays.asList("Bar", null), received);
+        assertEquals(2, invalidated[0]);
+    }
+
+    @Test
+    public void testConnectSignalToProperty() {
+        final Signal1<String> signal = new Signal1<>();
+        final Property<String> property = new Property<>();
+        signal.connect(property);
+
+        signal.emit("Foo");
+
+        assertEquals("Foo", property.getValue());
+    }
+
+    @Test
+    public void testPrimitiveProperties() {
+        final LongProperty longProperty = new LongProperty(1L);
+        final DoubleProperty doubleProperty = new DoubleProperty(Double.NaN);
+        final BooleanProperty booleanProperty = new BooleanProperty();
+        final int[] changes = new int[1];
+        longProperty.invalidated().connect(() -> changes[0]++);
+        doubleProperty.invalidated().connect(() -> changes[0]++);
+        booleanProperty.invalidated().connect(() -> changes[0]++);
+
+        longProperty.setValue(1L);
+        doubleProperty.setValue(Double.NaN);
+        booleanProperty.setValue(false);
+        assertEquals(0, changes[0]);
+
+        longProperty.setValue(Long.MAX_VALUE);
+        doubleProperty.setValue(Math.PI);
+        booleanProperty.setValue(true);
+        assertEquals(3, changes[0]);
+        assertEquals(Long.MAX_VALUE, longProperty.getValue());
+        assertEquals(Math.PI, doubleProperty.getValue(), 0.0);
+        assertTrue(booleanProperty.getValue());
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * The chunked store behaves like the copy on write store, also with many slots.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ReceiverStoreTest {
+
+    private static final int MANY = 100_000;
+
+    private int count;
+
+    @Test
+    public void testDefaultStore() {
+        assertEquals(ReceiverStore.COPY_ON_WRITE, new Signal0().getReceiverStore());
+    }
+
+    @Test
+    public void testChunked_SameOrderAsCopyOnWrite() {
+        final List<Integer> copyOnWrite = receivedOrder(ReceiverStore.COPY_ON_WRITE);
+        final List<Integer> chunked = receivedOrder(ReceiverStore.CHUNKED);
+
+        assertEquals(1000, chunked.size());
+        assertEquals(copyOnWrite, chunked);
+    }
+
+    @Test
+    public void testChunked_ManySlots() {
+        final Signal0 signal = new Signal0();
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        final List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < MANY; i++) {
+            connections.add(signal.connect(() -> count++));
+        }
+
+        signal.emit();
+        assertEquals(MANY, count);
+
+        for (int i = 0; i < MANY; i += 2) {
+            connections.get(i).disconnect();
+        }
+        count = 0;
+        signal.emit();
+        assertEquals(MANY / 2, count);
+
+        for (Connection e : connections) {
+            e.disconnect();
+        }
+        count = 0;
+        signal.emit();
+        assertEquals(0, count);
+        assertFalse(connections.get(1).isConnected());
+    }
+
+    @Test
+    public void testChunked_MergeUnderfilledChunks() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        final List<Integer> received = new ArrayList<>();
+        final List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < Receivers.CHUNK_CAPACITY * 3; i++) {
+            final int id = i;
+            connections.add(signal.connect(v -> received.add(id)));
+        }
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < connections.size(); i++) {
+            if (i % 8 == 0) {
+                expected.add(i);
+            } else {
+                connections.get(i).disconnect();
+            }
+        }
+
+        signal.emit("Foo");
+
+        assertEquals(1, signal.getSegments().length);
+        assertEquals(expected, received);
+    }
+
+    @Test
+    public void testChunked_BlockConnection() {
+        final IntSignal signal = new IntSignal();
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        final List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            connections.add(signal.connect(this::add));
+        }
+
+        connections.get(500).block();
+        signal.emit(1);
+        assertEquals(999, count);
+
+        connections.get(500).unblock();
+        signal.emit(1);
+        assertEquals(1999, count);
+    }
+
+    @Test
+    public void testChunked_NestedSignal() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        signal1.setReceiverStore(ReceiverStore.CHUNKED);
+        final List<String> received = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            signal1.connect(v -> { });
+        }
+        signal1.connect(signal2);
+        signal2.connect(received::add);
+
+        signal1.emit("Foo");
+
+        assertEquals(1, received.size());
+        assertEquals("Foo", received.get(0));
+    }
+
+    @Test
+    public void testSetReceiverStore_KeepsConnections() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.connect(v -> received.add("low " + v), -1);
+        final Connection blocked = signal.connect(v -> received.add("blocked " + v));
+        signal.connect(v -> received.add("high " + v), 1);
+        blocked.block();
+
+        signal.setReceiverStore(ReceiverStore.CHUNKED);
+        signal.emit("Foo");
+        signal.setReceiverStore(ReceiverStore.COPY_ON_WRITE);
+        blocked.unblock();
+        signal.emit("Bar");
+
+        assertEquals(ReceiverStore.COPY_ON_WRITE, signal.getReceiverStore());
+        assertEquals(Arrays.asList("high Foo", "low Foo", "high Bar", "blocked Bar", "low Bar"), received);
+    }
+
+    @Test
+    public void testDisconnect_KeepsPriorityOrder() {
+        for (ReceiverStore e : ReceiverStore.values()) {
+            final Signal0 signal = new Signal0();
+            signal.setReceiverStore(e);
+            final List<Integer> received = new ArrayList<>();
+            final List<Connection> connections = new ArrayList<>();
+            for (int i = 0; i < 600; i++) {
+                final int id = i;
+                connections.add(signal.connect(() -> received.add(id), i % 3));
+            }
+            for (int i = 0; i < 600; i += 4) {
+                connections.get(i).disconnect();
+            }
+            signal.connect(() -> received.add(600), 1);
+
+            signal.emit();
+
+            final List<Integer> expected = new ArrayList<>(connectedIds(2));
+            expected.addAll(connectedIds(1));
+            expected.add(600);
+            expected.addAll(connectedIds(0));
+            assertEquals(e.name(), expected, received);
+        }
+    }
+
+    private static List<Integer> connectedIds(final int priority) {
+        final List<Integer> result = new ArrayList<>();
+        for (int i = priority; i < 600; i += 3) {
+            if (i % 4 != 0) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+
+    private void add(final int value) {
+        count += value;
+    }
+
+    private static List<Integer> receivedOrder(final ReceiverStore store) {
+        final Signal1<String> signal = new Signal1<>();
+        signal.setReceiverStore(store);
+        final List<Integer> received = new ArrayList<>();
+        final List<Connection> connections = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            final int id = i;
+            connections.add(signal.connect(v -> received.add(id), i % 7 - 3));
+        }
+        for (int i = 0; i < 1200; i += 6) {
+            connections.get(i).disconnect();
+        }
+        signal.emit("Foo");
+        return received;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Each slot of a ring buffer signal consumes the values on its own thread.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class RingBufferSignalTest {
+
+    @Test
+    public void testAllSlotsReceiveAllValuesInOrder() throws Exception {
+        final RingBufferSignal1<Integer> signal = new RingBufferSignal1<>(64, WaitStrategy.YIELDING,
+            Executors.defaultThreadFactory());
+        final List<List<Integer>> received = new ArrayList<>();
+        final List<Connection> connections = new ArrayList<>();
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+            received.add(values);
+            connections.add(signal.connect(values::add));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            expected.add(i);
+            signal.emit(i);
+        }
+
+        for (List<Integer> e : received) {
+            awaitSize(e, expected.size());
+            assertEquals(expected, e);
+        }
+        connections.forEach(Connection::disconnect);
+    }
+
+    @Test
+    public void testSlowSlotDoesNotLoseValues() throws Exception {
+        final RingBufferSignal1<Integer> signal = new RingBufferSignal1<>(4, WaitStrategy.SLEEPING,
+            Executors.defaultThreadFactory());
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final Connection connection = signal.connect(v -> sleepAndAdd(received, v));
+
+        for (int i = 0; i < 20; i++) {
+            signal.emit(i);
+        }
+
+        awaitSize(received, 20);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, (int) received.get(i));
+        }
+        connection.disconnect();
+    }
+
+    @Test
+    public void testConnectWhileEmitting() throws Exception {
+        final RingBufferSignal1<Integer> signal = new RingBufferSignal1<>(4, WaitStrategy.YIELDING,
+            Executors.defaultThreadFactory());
+        final List<Integer> first = Collections.synchronizedList(new ArrayList<>());
+        signal.connect(first::add);
+        final Thread emitter = new Thread(() -> emitAll(signal, 2_000));
+        emitter.start();
+
+        final List<List<Integer>> received = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            final List<Integer> values = Collections.synchronizedList(new ArrayList<>());
+            received.add(values);
+            signal.connect(v -> sleepAndAdd(values, v));
+            Thread.sleep(20);
+        }
+        emitter.join();
+
+        awaitSize(first, 2_000);
+        for (List<Integer> e : received) {
+            assertFalse(e.isEmpty());
+            awaitLast(e, 1_999);
+            final int start = e.get(0);
+            for (int i = 0; i < e.size(); i++) {
+                assertEquals(Integer.valueOf(start + i), e.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDisconnect() throws Exception {
+        final RingBufferSignal1<Integer> signal = new RingBufferSignal1<>(4, WaitStrategy.SLEEPING,
+            Executors.defaultThreadFactory());
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final Connection connection = signal.connect(received::add);
+        signal.emit(1);
+        awaitSize(received, 1);
+
+        connection.disconnect();
+        for (int i = 0; i < 100; i++) {
+            signal.emit(i);
+        }
+
+        assertFalse(connection.isConnected());
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    public void testBlockSignal() throws Exception {
+        final RingBufferSignal1<Integer> signal = new RingBufferSignal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final Connection connection = signal.connect(received::add);
+
+        signal.setBlocked(true);
+        signal.emit(1);
+        signal.setBlocked(false);
+        signal.emit(2);
+
+        awaitSize(received, 1);
+        assertEquals(Collections.singletonList(2), received);
+        connection.disconnect();
+    }
+
+    @Test
+    public void testCapacityIsPowerOfTwo() {
+        assertEquals(1, new RingBufferSignal1<>(1, WaitStrategy.BUSY_SPIN, Thread::new).getCapacity());
+        assertEquals(8, new RingBufferSignal1<>(5, WaitStrategy.BUSY_SPIN, Thread::new).getCapacity());
+        assertEquals(8, new RingBufferSignal1<>(8, WaitStrategy.BUSY_SPIN, Thread::new).getCapacity());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCapacityZero() {
+        new RingBufferSignal1<>(0, WaitStrategy.BUSY_SPIN, Thread::new);
+    }
+
+    private static void sleepAndAdd(final List<Integer> values, final int value) {
+        try {
+            Thread.sleep(1);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        values.add(value);
+    }
+
+    private static void emitAll(final RingBufferSignal1<Integer> signal, final int count) {
+        for (int i = 0; i < count; i++) {
+            signal.emit(i);
+        }
+    }
+
+    private static void awaitLast(final List<Integer> list, final int last) throws InterruptedException {
+        for (int i = 0; i < 1000 && (list.isEmpty() || list.get(list.size() - 1) != last); i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(Integer.valueOf(last), list.get(list.size() - 1));
+    }
+
+    private static void awaitSize(final List<?> list, final int size) throws InterruptedException {
+        for (int i = 0; i < 500 && list.size() < size; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, list.size());
+    }
+
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A signal hub routes values by topic to subscribed slots.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalHubTest {
+
+    @Test
+    public void testExactTopic() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.eu.filled", received::add);
+
+        hub.publish("orders.eu.filled", "Foo");
+        hub.publish("orders.eu.cancelled", "Bar");
+        hub.publish("orders.eu", "Baz");
+
+        assertEquals(Arrays.asList("Foo"), received);
+    }
+
+    @Test
+    public void testAnySegment() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.*.filled", received::add);
+
+        hub.publish("orders.eu.filled", "eu");
+        hub.publish("orders.us.filled", "us");
+        hub.publish("orders.eu.west.filled", "eu.west");
+        hub.publish("orders.filled", "none");
+
+        assertEquals(Arrays.asList("eu", "us"), received);
+    }
+
+    @Test
+    public void testAnySegments() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.**.filled", received::add);
+
+        hub.publish("orders.filled", "none");
+        hub.publish("orders.eu.filled", "eu");
+        hub.publish("orders.eu.west.filled", "eu.west");
+        hub.publish("orders.eu.cancelled", "cancelled");
+
+        assertEquals(Arrays.asList("none", "eu", "eu.west"), received);
+    }
+
+    @Test
+    public void testOrderOfSubscription() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.**", v -> received.add("all"));
+        hub.subscribe("orders.eu.filled", v -> received.add("exact"));
+        hub.subscribe("orders.*.filled", v -> received.add("any"));
+        hub.subscribe("**.filled", v -> received.add("filled"));
+
+        hub.publish("orders.eu.filled", "Foo");
+
+        assertEquals(Arrays.asList("all", "exact", "any", "filled"), received);
+    }
+
+    @Test
+    public void testSubscribeAfterPublish() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.publish("orders.eu.filled", "Foo");
+
+        hub.subscribe("orders.*.filled", received::add);
+        hub.publish("orders.eu.filled", "Bar");
+
+        assertEquals(Arrays.asList("Bar"), received);
+    }
+
+    @Test
+    public void testDisconnectAndBlock() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        final Connection connection = hub.subscribe("orders.*", received::add);
+
+        connection.block();
+        hub.publish("orders.eu", "blocked");
+        connection.unblock();
+        hub.publish("orders.eu", "unblocked");
+        connection.disconnect();
+        hub.publish("orders.eu", "disconnected");
+
+        assertEquals(Arrays.asList("unblocked"), received);
+        assertFalse(connection.isConnected());
+    }
+
+    @Test
+    public void testSubscribeWildcardAfterPublish() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.eu.filled", received::add);
+        hub.subscribe("invoices.**", v -> { });
+        hub.publish("orders.eu.filled", "Foo");
+
+        hub.subscribe("orders.*.filled", received::add);
+        hub.subscribe("**", received::add);
+        hub.publish("orders.eu.filled", "Bar");
+
+        assertEquals(Arrays.asList("Foo", "Bar", "Bar", "Bar"), received);
+    }
+
+    @Test
+    public void testPruneOnDisconnect() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final Connection kept = hub.subscribe("orders.eu", v -> { });
+        final Connection first = hub.subscribe("orders.eu.filled.partially", v -> { });
+        final Connection second = hub.subscribe("orders.*.filled", v -> { });
+        assertEquals(7, hub.getNodeCount());
+
+        first.disconnect();
+        assertEquals(5, hub.getNodeCount());
+        second.disconnect();
+        assertEquals(3, hub.getNodeCount());
+        kept.disconnect();
+        assertEquals(1, hub.getNodeCount());
+    }
+
+    @Test
+    public void testEvictDeadTopics() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        final Connection connection = hub.subscribe("orders.*", received::add);
+        hub.publish("orders.eu", "Foo");
+        hub.publish("orders.us", "Foo");
+        hub.publish("invoices.eu", "Foo");
+        assertEquals(2, hub.getCachedTopicCount());
+
+        connection.disconnect();
+        assertEquals(0, hub.getCachedTopicCount());
+
+        hub.subscribe("orders.*", received::add);
+        hub.publish("orders.eu", "Bar");
+        assertEquals(Arrays.asList("Foo", "Foo", "Bar"), received);
+    }
+
+    @Test
+    public void testEvictOnlyDependentTopics() {
+        final SignalHub<String> hub = new SignalHub<>();
+        final List<String> received = new ArrayList<>();
+        hub.subscribe("orders.eu", received::add);
+        hub.subscribe("invoices.eu", received::add);
+        hub.publish("orders.eu", "Foo");
+        hub.publish("invoices.eu", "Foo");
+        assertEquals(2, hub.getCachedTopicCount());
+
+        hub.subscribe("orders.us", received::add);
+        assertEquals(1, hub.getCachedTopicCount());
+        hub.subscribe("invoices.eu", received::add).block();
+        assertEquals(0, hub.getCachedTopicCount());
+
+        hub.publish("invoices.eu", "Bar");
+        assertEquals(Arrays.asList("Foo", "Foo", "Bar"), received);
+    }
+
+    @Test
+    public void testPublisher() {
+        final SignalHub<Integer> hub = new SignalHub<>();
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = new ArrayList<>();
+        hub.subscribe("counter.*", received::add);
+        signal.connect(hub.publisher("counter.a"));
+
+        signal.emit(42);
+
+        assertEquals(Collections.singletonList(42), received);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPublishWildcard() {
+        final SignalHub<String> hub = new SignalHub<>();
+        hub.publish("orders.*", "Foo");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmptySegment() {
+        final SignalHub<String> hub = new SignalHub<>();
+        hub.subscribe("orders..filled", v -> { });
+    }
+
+}
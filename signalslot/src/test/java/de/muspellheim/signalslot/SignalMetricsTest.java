@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Metrics of signals and slots are recorded on demand and published via JMX.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalMetricsTest {
+
+    @Test
+    public void testDisabledByDefault() {
+        final Signal1<String> signal = new Signal1<>();
+
+        assertNull(signal.getMonitor());
+    }
+
+    @Test
+    public void testRecordEmits() {
+        final Signal1<String> signal = new Signal1<>();
+        final Slot1<String> fastSlot = v -> { };
+        final Slot1<String> slowSlot = v -> sleep();
+        signal.connect(fastSlot);
+        signal.connect(slowSlot);
+        final SignalMetrics metrics = signal.enableMetrics("testRecordEmits");
+        try {
+            signal.emit("Foo");
+            signal.emit("Bar");
+
+            assertEquals(2, metrics.getEmissionCount());
+            assertEquals(2, metrics.getFanOut());
+            final List<SlotMetrics> slots = metrics.getSlotMetrics();
+            assertEquals(2, slots.size());
+            assertEquals(String.valueOf(slowSlot), slots.get(0).getSlot());
+            assertEquals(2, slots.get(0).getInvocationCount());
+            assertTrue(slots.get(0).getMaxNanos() >= 1_000_000);
+            assertEquals(2, sum(slots.get(0).getLatencyHistogram()));
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testBlockedDrops() {
+        final Signal0 signal = new Signal0();
+        final SignalMetrics metrics = signal.enableMetrics("testBlockedDrops");
+        try {
+            signal.setBlocked(true);
+            signal.emit();
+            signal.emit();
+            signal.setBlockMode(BlockMode.COALESCE);
+            signal.emit();
+            signal.emit();
+            signal.setBlocked(false);
+
+            assertEquals(3, metrics.getBlockedDropCount());
+            assertEquals(1, metrics.getEmissionCount());
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testMonitorNestedSignal() {
+        final IntSignal signal1 = new IntSignal();
+        final IntSignal signal2 = new IntSignal();
+        signal1.connect(signal2);
+        signal2.connect(v -> { });
+        final SignalMetrics metrics = signal2.enableMetrics("testMonitorNestedSignal");
+        try {
+            signal1.emit(42);
+
+            assertEquals(1, metrics.getEmissionCount());
+        } finally {
+            signal2.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testPublishViaJmx() throws Exception {
+        final Signal1<String> signal = new Signal1<>();
+        final SignalMetrics metrics = signal.enableMetrics("testPublishViaJmx");
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName name = new ObjectName("de.muspellheim.signalslot:type=Signal,name=\"testPublishViaJmx\"");
+        try {
+            signal.emit("Foo");
+
+            assertEquals(name, metrics.getObjectName());
+            assertEquals(1L, server.getAttribute(name, "EmissionCount"));
+        } finally {
+            signal.disableMetrics();
+        }
+        assertFalse(server.isRegistered(name));
+        assertNull(signal.getMonitor());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicateName() {
+        final Signal1<String> signal1 = new Signal1<>();
+        final Signal1<String> signal2 = new Signal1<>();
+        signal1.enableMetrics("testDuplicateName");
+        try {
+            signal2.enableMetrics("testDuplicateName");
+        } finally {
+            signal1.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testEnableMetricsAgain() {
+        final Signal1<String> signal = new Signal1<>();
+        final SignalMetrics first = signal.enableMetrics("testEnableMetricsAgain");
+        try {
+            final SignalMetrics second = signal.enableMetrics("testEnableMetricsAgain");
+
+            assertSame(second, signal.getMonitor());
+            assertNotSame(first, second);
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testRejectOtherMonitor() {
+        final Signal1<String> signal = new Signal1<>();
+        final SlowMonitor monitor = new SlowMonitor();
+        signal.setMonitor(monitor);
+
+        try {
+            signal.enableMetrics("testRejectOtherMonitor");
+            fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) {
+            assertSame(monitor, signal.getMonitor());
+        }
+    }
+
+    @Test
+    public void testSlotsByIdentity() {
+        final Signal1<String> signal = new Signal1<>();
+        for (int i = 0; i < 40; i++) {
+            signal.connect(new NamedSlot());
+        }
+        final SignalMetrics metrics = signal.enableMetrics("testSlotsByIdentity");
+        try {
+            signal.emit("Foo");
+            signal.emit("Bar");
+
+            assertEquals(40, metrics.getSlotMetrics().size());
+            for (SlotMetrics e : metrics.getSlotMetrics()) {
+                assertEquals(2, e.getInvocationCount());
+            }
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+    @Test
+    public void testExcludeMonitorFromSlotDuration() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.connect(v -> { });
+        signal.connect(v -> { });
+        final SlowMonitor monitor = new SlowMonitor();
+        signal.setMonitor(monitor);
+
+        signal.emit("Foo");
+
+        assertEquals(2, monitor.slotDurations.size());
+        for (long e : monitor.slotDurations) {
+            assertTrue("slot took " + e + " ns", e < SlowMonitor.SLEEP_NANOS / 2);
+        }
+        assertTrue("emit took " + monitor.emitDuration + " ns", monitor.emitDuration < SlowMonitor.SLEEP_NANOS / 2);
+    }
+
+    @Test
+    public void testForgetCollectedSlots() throws Exception {
+        final Signal1<String> signal = new Signal1<>();
+        Slot1<String> slot = new NamedSlot();
+        signal.connect(slot);
+        final SignalMetrics metrics = signal.enableMetrics("testForgetCollectedSlots");
+        try {
+            signal.emit("Foo");
+            signal.disconnect(slot);
+            signal.emit("Bar");
+            assertEquals(1, metrics.getSlotMetrics().size());
+            final WeakReference<Slot1<String>> reference = new WeakReference<>(slot);
+
+            slot = null;
+            for (int i = 0; i < 100 && reference.get() != null; i++) {
+                System.gc();
+                Thread.sleep(10);
+            }
+
+            assertNull("slot is not garbage collected", reference.get());
+            assertTrue(metrics.getSlotMetrics().isEmpty());
+        } finally {
+            signal.disableMetrics();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(1);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static long sum(final long[] values) {
+        long result = 0;
+        for (long e : values) {
+            result += e;
+        }
+        return result;
+    }
+
+    /**
+     * A monitor taking noticeable time for each slot call.
+     */
+    private static final class SlowMonitor implements SignalMonitor {
+
+        static final long SLEEP_NANOS = 20_000_000;
+
+        private final List<Long> slotDurations = new ArrayList<>();
+        private long emitDuration;
+
+        @Override
+        public void slotCalled(final Object slot, final long durationNanos) {
+            slotDurations.add(durationNanos);
+            try {
+                Thread.sleep(SLEEP_NANOS / 1_000_000);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void emitted(final int fanOut, final long durationNanos) {
+            emitDuration = durationNanos;
+        }
+
+        @Override
+        public void dropped() {
+            // not recorded
+        }
+
+    }
+
+    /**
+     * A slot collected after its last reference is dropped, unlike a non-capturing lambda. All named slots are equal,
+     * but not identical.
+     */
+    private static final class NamedSlot implements Slot1<String> {
+
+        @Override
+        public void receive(final String value) {
+            // ignore value
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof NamedSlot;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Operators on a signal are fused into one slot.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class SignalPipelineTest {
+
+    @Test
+    public void testMapFilterDistinct() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<Integer> received = new ArrayList<>();
+        signal.map(String::length).filter(v -> v > 1).distinctUntilChanged().connect(received::add);
+
+        for (String e : Arrays.asList("a", "bb", "cc", "d", "ee", "fff", "ggg")) {
+            signal.emit(e);
+        }
+
+        assertEquals(Arrays.asList(2, 3), received);
+    }
+
+    @Test
+    public void testDistinctUntilChanged() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        signal.distinctUntilChanged().connect(received::add);
+
+        for (String e : Arrays.asList(null, null, "a", "a", null, "b")) {
+            signal.emit(e);
+        }
+
+        assertEquals(Arrays.asList(null, "a", null, "b"), received);
+    }
+
+    @Test
+    public void testDistinctPerConnection() {
+        final Signal1<String> signal = new Signal1<>();
+        final SignalPipeline<String, String> pipeline = signal.distinctUntilChanged();
+        final List<String> received1 = new ArrayList<>();
+        final List<String> received2 = new ArrayList<>();
+        pipeline.connect(received1::add);
+        signal.emit("a");
+        pipeline.connect(received2::add);
+
+        signal.emit("a");
+
+        assertEquals(Arrays.asList("a"), received1);
+        assertEquals(Arrays.asList("a"), received2);
+    }
+
+    @Test
+    public void testOneSlotPerPipeline() {
+        final Signal1<String> signal = new Signal1<>();
+        signal.map(String::length).map(v -> v * 2).filter(v -> v > 0).connect(v -> { });
+
+        assertEquals(1, signal.getSegments().length);
+        assertEquals(1, signal.getSegments()[0].length);
+    }
+
+    @Test
+    public void testDisconnect() {
+        final Signal1<String> signal = new Signal1<>();
+        final List<String> received = new ArrayList<>();
+        final Connection connection = signal.map(String::toUpperCase).connect(received::add);
+        signal.emit("a");
+
+        connection.disconnect();
+        signal.emit("b");
+
+        assertEquals(Arrays.asList("A"), received);
+    }
+
+    @Test
+    public void testToSignal() {
+        final Signal1<Integer> signal = new Signal1<>();
+        final Signal1<String> mapped = signal.filter(v -> v % 2 == 0).map(String::valueOf).toSignal();
+        final List<String> received = new ArrayList<>();
+        mapped.connect(received::add);
+
+        for (int i = 0; i < 5; i++) {
+            signal.emit(i);
+        }
+
+        assertEquals(Arrays.asList("0", "2", "4"), received);
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Throttled and debounced signals emit less values than their source.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class ThrottleDebounceTest {
+
+    @Test
+    public void testThrottle() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        signal.throttle(Duration.ofMillis(100)).connect(received::add);
+
+        signal.emit(1);
+        signal.emit(2);
+        signal.emit(3);
+        assertEquals(Collections.singletonList(1), received);
+
+        awaitSize(received, 2);
+        assertEquals(Arrays.asList(1, 3), received);
+    }
+
+    @Test
+    public void testDebounce() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        signal.debounce(Duration.ofMillis(50)).connect(received::add);
+
+        signal.emit(1);
+        signal.emit(2);
+        signal.emit(3);
+        assertTrue(received.isEmpty());
+
+        awaitSize(received, 1);
+        assertEquals(Collections.singletonList(3), received);
+
+        signal.emit(4);
+        awaitSize(received, 2);
+        assertEquals(Arrays.asList(3, 4), received);
+    }
+
+    @Test
+    public void testThrottle_Close() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final DerivedSignal1<Integer> throttled = signal.throttle(Duration.ofMillis(50));
+        throttled.connect(received::add);
+        signal.emit(1);
+        signal.emit(2);
+
+        throttled.close();
+        signal.emit(3);
+
+        Thread.sleep(100);
+        assertEquals(Collections.singletonList(1), received);
+        assertFalse(throttled.getSourceConnection().isConnected());
+    }
+
+    @Test
+    public void testDebounce_Close() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final DerivedSignal1<Integer> debounced = signal.debounce(Duration.ofMillis(50));
+        debounced.connect(received::add);
+        signal.emit(1);
+
+        debounced.close();
+        signal.emit(2);
+
+        Thread.sleep(100);
+        assertTrue(received.isEmpty());
+        assertFalse(debounced.getSourceConnection().isConnected());
+    }
+
+    @Test
+    public void testDebounce_BlockSourceConnection() throws Exception {
+        final Signal1<Integer> signal = new Signal1<>();
+        final List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        final DerivedSignal1<Integer> debounced = signal.debounce(Duration.ofMillis(20));
+        debounced.connect(received::add);
+
+        debounced.getSourceConnection().block();
+        signal.emit(1);
+        debounced.getSourceConnection().unblock();
+        signal.emit(2);
+
+        awaitSize(received, 1);
+        assertEquals(Collections.singletonList(2), received);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testThrottle_ZeroInterval() {
+        new Signal1<Integer>().throttle(Duration.ZERO);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testDebounce_NullDelay() {
+        new Signal1<Integer>().debounce(null);
+    }
+
+    private static void awaitSize(final List<?> list, final int size) throws InterruptedException {
+        for (int i = 0; i < 100 && list.size() < size; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(size, list.size());
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * The timer wheel runs the tasks in order of their deadlines.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class TimerWheelTest {
+
+    @Test
+    public void testSchedule() throws Exception {
+        final TimerWheel timer = new TimerWheel("test-timer");
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(3);
+
+        timer.schedule(() -> runTask(order, 3, done), 30, TimeUnit.MILLISECONDS);
+        timer.schedule(() -> runTask(order, 1, done), 10, TimeUnit.MILLISECONDS);
+        timer.schedule(() -> runTask(order, 2, done), 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(1, 2, 3), order);
+    }
+
+    @Test
+    public void testSchedule_MoreThanOneRound() throws Exception {
+        final TimerWheel timer = new TimerWheel("test-timer");
+        final CountDownLatch done = new CountDownLatch(1);
+        final long start = System.nanoTime();
+
+        timer.schedule(done::countDown, 600, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(600));
+    }
+
+    @Test
+    public void testCancel() throws Exception {
+        final TimerWheel timer = new TimerWheel("test-timer");
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch done = new CountDownLatch(1);
+
+        timer.schedule(() -> runTask(order, 1, done), 10, TimeUnit.MILLISECONDS).cancel();
+        timer.schedule(() -> runTask(order, 2, done), 20, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(Collections.singletonList(2), order);
+    }
+
+    private static void runTask(final List<Integer> order, final int task, final CountDownLatch done) {
+        order.add(task);
+        done.countDown();
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2013-2015 Falko Schumann <www.muspellheim.de>
+ * Released under the terms of the MIT License.
+ */
+
+package de.muspellheim.signalslot;
+
+import de.muspellheim.signalslot.CounterSignalSlotTest.Counter;
+import org.junit.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * A weak connection does not keep the slot alive.
+ *
+ * @author Falko Schumann &lt;falko.schumann@muspellheim.de&gt;
+ */
+public final class WeakConnectionTest {
+
+    @Test
+    public void testCounter() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connectWeak(b.setValue());
+
+        a.setValue(12);
+        assertEquals(12, a.getValue());
+        assertEquals(12, b.getValue());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testConnectNull() {
+        final Counter a = new Counter();
+        a.valueChanged().connectWeak(null);
+    }
+
+    @Test
+    public void testDisconnect() {
+        final Counter a = new Counter();
+        final Counter b = new Counter();
+        a.valueChanged().connectWeak(b.setValue());
+
+        a.valueChanged().disconnect(b.setValue());
+        a.setValue(12);
+
+        assertEquals(0, b.getValue());
+    }
+
+    @Test
+    public void testGarbageCollectedSlotIsPurged() throws Exception {
+        final Counter a = new Counter();
+        Counter b = new Counter();
+        final Connection connection = a.valueChanged().connectWeak(b.setValue());
+        final WeakReference<Counter> reference = new WeakReference<>(b);
+
+        b = null;
+        for (int i = 0; i < 100 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull("Counter b is not garbage collected", reference.get());
+        a.setValue(12);
+        assertTrue("Not purged before connections change", connection.isConnected());
+
+        // the reference is enqueued by the garbage collector asynchronously
+        for (int i = 0; i < 100 && connection.isConnected(); i++) {
+            a.valueChanged().connect(v -> { }).disconnect();
+            Thread.sleep(10);
+        }
+        assertFalse("Purged with next change of connections", connection.isConnected());
+    }
+
+    @Test
+    public void testStrongConnectionKeepsSlotAlive() throws Exception {
+        final Counter a = new Counter();
+        Counter b = new Counter();
+        final Connection connection = a.valueChanged().connect(b.setValue());
+        final WeakReference<Counter> reference = new WeakReference<>(b);
+
+        b = null;
+        System.gc();
+        Thread.sleep(10);
+        a.valueChanged().connect(v -> { });
+
+        assertNotNull(reference.get());
+        assertTrue(connection.isConnected());
+    }
+
+}